@@ -111,6 +111,24 @@ tasks.register<JavaExec>("runGlider") {
     systemProperty("pattern", "GLIDER")
 }
 
+// e.g. ./gradlew runBenchmark -Pbenchmark.size=4096 -Pbenchmark.engine=hibernating -Pbenchmark.format=json
+tasks.register<JavaExec>("runBenchmark") {
+    group = "application"
+    description = "Run a headless throughput benchmark (configure with -Pbenchmark.* properties)"
+    mainClass.set("com.example.gameoflife.Main")
+    classpath = sourceSets["main"].runtimeClasspath
+    systemProperty("benchmark", "true")
+    systemProperties(project.properties.filterKeys { it.startsWith("benchmark.") })
+}
+
+tasks.register<JavaExec>("runServer") {
+    group = "application"
+    description = "Run the headless simulation server on localhost:8080"
+    mainClass.set("com.example.gameoflife.Main")
+    classpath = sourceSets["main"].runtimeClasspath
+    systemProperty("server.port", "8080")
+}
+
 sonar {
     properties {
         property("sonar.projectKey", "kousen_gameoflife")
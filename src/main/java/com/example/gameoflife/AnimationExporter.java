@@ -0,0 +1,207 @@
+package com.example.gameoflife;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+// Streams a run to an animated GIF or APNG. Frames are handed to a background encoder through
+// a small bounded queue, so memory stays flat however long the run; after the first frame only
+// the rectangle that changed is encoded.
+public final class AnimationExporter implements Consumer<GameOfLife>, AutoCloseable {
+    public static final int DEAD_RGB = 0xFFFFFF;
+    public static final int ALIVE_RGB = 0x000000;
+    private static final int QUEUED_FRAMES = 8;
+    private static final long[] END_OF_FRAMES = new long[0];
+
+    private final int rows;
+    private final int cols;
+    private final int cellSize;
+    private final int delayMillis;
+    private final FileChannel channel;
+    private final OutputStream out;
+    private final AnimationWriter writer;
+    private final BlockingQueue<long[]> frames = new ArrayBlockingQueue<>(QUEUED_FRAMES);
+    private final ExecutorService encoder = Executors.newSingleThreadExecutor();
+    private final Future<Integer> encoding;
+    private boolean closed;
+
+    public AnimationExporter(Path path, int rows, int cols, int cellSize, Duration frameDelay) throws IOException {
+        this(path, AnimationFormat.forFileName(path.getFileName().toString()), rows, cols, cellSize, frameDelay);
+    }
+
+    public AnimationExporter(Path path, AnimationFormat format, int rows, int cols, int cellSize,
+                             Duration frameDelay) throws IOException {
+        Objects.requireNonNull(format, "Animation format cannot be null");
+        if (rows <= 0 || cols <= 0 || cellSize <= 0) {
+            throw new IllegalArgumentException(
+                "Frame size and cell size must be positive: %dx%d, cell %d".formatted(rows, cols, cellSize));
+        }
+        var maxPixels = format == AnimationFormat.GIF ? 0xFFFF : Integer.MAX_VALUE;
+        if ((long) rows * cellSize > maxPixels || (long) cols * cellSize > maxPixels) {
+            throw new IllegalArgumentException(
+                "Image too large for %s: %dx%d cells at %d pixels".formatted(format, rows, cols, cellSize));
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.cellSize = cellSize;
+        this.delayMillis = (int) Math.min(0xFFFF, frameDelay.toMillis());
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+        this.out = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+        this.writer = switch (format) {
+            case GIF -> new GifWriter(out, DEAD_RGB, ALIVE_RGB);
+            case APNG -> new ApngWriter(out, channel, DEAD_RGB, ALIVE_RGB);
+        };
+        this.encoding = encoder.submit(this::encode);
+    }
+
+    // Observer for GameOfLife.simulate: captures the current generation
+    @Override
+    public void accept(GameOfLife game) {
+        // Published snapshots are never modified, so the encoder can read the board without a copy
+        enqueue(game.getSnapshot().grid());
+    }
+
+    public void addFrame(Grid grid) {
+        enqueue(grid.copy());
+    }
+
+    // The grid must be private to us: its words are read later on the encoder thread
+    private void enqueue(Grid grid) {
+        if (grid.getRows() != rows || grid.getCols() != cols) {
+            throw new IllegalArgumentException("Frame is %dx%d but the animation is %dx%d"
+                .formatted(grid.getRows(), grid.getCols(), rows, cols));
+        }
+        if (closed) {
+            throw new IllegalStateException("Exporter is closed");
+        }
+        put(grid.denseWords());
+    }
+
+    // Blocks only while the encoder is a full queue behind
+    private void put(long[] words) {
+        try {
+            while (!frames.offer(words, 100, TimeUnit.MILLISECONDS)) {
+                if (encoding.isDone()) {
+                    failure();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing a frame", e);
+        }
+    }
+
+    private void failure() {
+        try {
+            encoding.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException io ?
+                new UncheckedIOException(io) : new IllegalStateException("Encoder failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new IllegalStateException("Encoder stopped");
+    }
+
+    private Integer encode() throws IOException, InterruptedException {
+        var width = cols * cellSize;
+        var height = rows * cellSize;
+        long[] previous = null;
+        var count = 0;
+        for (var words = frames.take(); words != END_OF_FRAMES; words = frames.take()) {
+            if (previous == null) {
+                writer.writeHeader(width, height);
+                writeCells(words, 0, 0, rows, cols);
+            } else {
+                writeChanges(previous, words);
+            }
+            previous = words;
+            count++;
+        }
+        writer.finish(count);
+        return count;
+    }
+
+    // Bounding box of the cells that differ from the previous frame
+    private void writeChanges(long[] previous, long[] words) throws IOException {
+        var wordsPerRow = (cols + 63) >>> 6;
+        var columns = new long[wordsPerRow];
+        var top = -1;
+        var bottom = -1;
+        for (int row = 0; row < rows; row++) {
+            long rowDiff = 0;
+            for (int w = 0; w < wordsPerRow; w++) {
+                var diff = previous[row * wordsPerRow + w] ^ words[row * wordsPerRow + w];
+                columns[w] |= diff;
+                rowDiff |= diff;
+            }
+            if (rowDiff != 0) {
+                top = top < 0 ? row : top;
+                bottom = row;
+            }
+        }
+        if (top < 0) {
+            // Nothing changed: a one-cell frame still carries the delay
+            writeCells(words, 0, 0, 1, 1);
+            return;
+        }
+        var first = 0;
+        while (columns[first] == 0) {
+            first++;
+        }
+        var last = wordsPerRow - 1;
+        while (columns[last] == 0) {
+            last--;
+        }
+        var left = (first << 6) + Long.numberOfTrailingZeros(columns[first]);
+        var right = (last << 6) + 63 - Long.numberOfLeadingZeros(columns[last]);
+        writeCells(words, top, left, bottom - top + 1, right - left + 1);
+    }
+
+    private void writeCells(long[] words, int top, int left, int height, int width) throws IOException {
+        var wordsPerRow = (cols + 63) >>> 6;
+        writer.writeFrame(left * cellSize, top * cellSize, width * cellSize, height * cellSize,
+            (pixelRow, indices) -> {
+                var base = (top + pixelRow / cellSize) * wordsPerRow;
+                var x = 0;
+                for (int col = left; col < left + width; col++) {
+                    var pixel = (byte) ((words[base + (col >>> 6)] >>> col) & 1);
+                    for (int i = 0; i < cellSize; i++) {
+                        indices[x++] = pixel;
+                    }
+                }
+            }, delayMillis);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            while (!encoding.isDone() && !frames.offer(END_OF_FRAMES, 100, TimeUnit.MILLISECONDS)) {
+                // the encoder is draining the queue
+            }
+            encoding.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException io ? io : new IOException("Encoder failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while finishing the animation", e);
+        } finally {
+            encoder.shutdownNow();
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.gameoflife;
+
+public enum AnimationFormat {
+    GIF,   // GIF89a, LZW-compressed, delays in hundredths of a second
+    APNG;  // animated PNG, deflate-compressed, millisecond delays
+
+    public static AnimationFormat forFileName(String fileName) {
+        var lower = fileName.toLowerCase(java.util.Locale.ROOT);
+        if (lower.endsWith(".gif")) {
+            return GIF;
+        }
+        if (lower.endsWith(".png") || lower.endsWith(".apng")) {
+            return APNG;
+        }
+        throw new IllegalArgumentException("Unknown animation file type: " + fileName);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.gameoflife;
+
+import java.io.IOException;
+
+// Two-color frame encoder; pixel index 0 is a dead cell, 1 a live one
+sealed interface AnimationWriter permits GifWriter, ApngWriter {
+
+    @FunctionalInterface
+    interface RowSource {
+        // Fills indices[0..width) with frame row pixelRow, both relative to the frame's top-left corner
+        void fill(int pixelRow, byte[] indices);
+    }
+
+    void writeHeader(int width, int height) throws IOException;
+
+    // The first frame must cover the whole image; later ones only the rectangle that changed
+    void writeFrame(int left, int top, int width, int height, RowSource rows, int delayMillis) throws IOException;
+
+    void finish(int frameCount) throws IOException;
+}
@@ -0,0 +1,177 @@
+package com.example.gameoflife;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+// Streaming APNG encoder: 1-bit palette frames, deflated row by row. The frame count in acTL
+// is unknown until the end, so finish() patches it in place through the file channel.
+final class ApngWriter implements AnimationWriter {
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    // Signature plus the 25-byte IHDR chunk; acTL always follows directly
+    private static final long ACTL_OFFSET = SIGNATURE.length + 25;
+
+    private final OutputStream out;
+    private final FileChannel channel;
+    private final int deadRgb;
+    private final int aliveRgb;
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private final CRC32 crc = new CRC32();
+
+    private byte[] chunk = new byte[1 << 16];
+    private int chunkLength;
+    private int sequence;
+    private boolean firstFrame = true;
+
+    ApngWriter(OutputStream out, FileChannel channel, int deadRgb, int aliveRgb) {
+        this.out = out;
+        this.channel = channel;
+        this.deadRgb = deadRgb;
+        this.aliveRgb = aliveRgb;
+    }
+
+    @Override
+    public void writeHeader(int width, int height) throws IOException {
+        out.write(SIGNATURE);
+        startChunk();
+        putInt(width);
+        putInt(height);
+        put(1);  // bit depth
+        put(3);  // indexed color
+        put(0);
+        put(0);
+        put(0);
+        writeChunk("IHDR");
+
+        startChunk();
+        putInt(0);  // frame count, patched by finish()
+        putInt(0);  // loop forever
+        writeChunk("acTL");
+
+        startChunk();
+        putRgb(deadRgb);
+        putRgb(aliveRgb);
+        writeChunk("PLTE");
+    }
+
+    @Override
+    public void writeFrame(int left, int top, int width, int height, RowSource rows, int delayMillis)
+            throws IOException {
+        startChunk();
+        putInt(sequence++);
+        putInt(width);
+        putInt(height);
+        putInt(left);
+        putInt(top);
+        putShort(Math.min(0xFFFF, delayMillis));
+        putShort(1000);
+        put(0);  // dispose: leave the frame in place
+        put(0);  // blend: replace the rectangle
+        writeChunk("fcTL");
+
+        // The first frame doubles as the default image for viewers without APNG support
+        startChunk();
+        if (!firstFrame) {
+            putInt(sequence++);
+        }
+        deflate(width, height, rows);
+        writeChunk(firstFrame ? "IDAT" : "fdAT");
+        firstFrame = false;
+    }
+
+    private void deflate(int width, int height, RowSource rows) {
+        var indices = new byte[width];
+        var scanline = new byte[1 + (width + 7) / 8];  // filter type 0, then MSB-first pixels
+        deflater.reset();
+        for (int y = 0; y < height; y++) {
+            rows.fill(y, indices);
+            Arrays.fill(scanline, (byte) 0);
+            for (int x = 0; x < width; x++) {
+                scanline[1 + (x >>> 3)] |= (byte) (indices[x] << (7 - (x & 7)));
+            }
+            deflater.setInput(scanline);
+            while (!deflater.needsInput()) {
+                drainDeflater();
+            }
+        }
+        deflater.finish();
+        while (!deflater.finished()) {
+            drainDeflater();
+        }
+    }
+
+    private void drainDeflater() {
+        ensureCapacity(chunkLength + 8192);
+        chunkLength += deflater.deflate(chunk, chunkLength, chunk.length - chunkLength);
+    }
+
+    @Override
+    public void finish(int frameCount) throws IOException {
+        startChunk();
+        writeChunk("IEND");
+        out.flush();
+
+        var data = ByteBuffer.allocate(8).putInt(frameCount).putInt(0);
+        crc.reset();
+        crc.update("acTL".getBytes(StandardCharsets.US_ASCII));
+        crc.update(data.array());
+        var patch = ByteBuffer.allocate(12).putInt(frameCount).putInt(0).putInt((int) crc.getValue()).flip();
+        // acTL layout: length, type, frame count, play count, CRC
+        channel.write(patch, ACTL_OFFSET + 8);
+        deflater.end();
+    }
+
+    private void startChunk() {
+        chunkLength = 0;
+    }
+
+    private void writeChunk(String type) throws IOException {
+        var typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        crc.reset();
+        crc.update(typeBytes);
+        crc.update(chunk, 0, chunkLength);
+        writeInt(chunkLength);
+        out.write(typeBytes);
+        out.write(chunk, 0, chunkLength);
+        writeInt((int) crc.getValue());
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > chunk.length) {
+            chunk = Arrays.copyOf(chunk, Math.max(capacity, chunk.length * 2));
+        }
+    }
+
+    private void put(int value) {
+        ensureCapacity(chunkLength + 1);
+        chunk[chunkLength++] = (byte) value;
+    }
+
+    private void putShort(int value) {
+        put(value >>> 8);
+        put(value);
+    }
+
+    private void putInt(int value) {
+        putShort(value >>> 16);
+        putShort(value & 0xFFFF);
+    }
+
+    private void putRgb(int rgb) {
+        put(rgb >>> 16);
+        put(rgb >>> 8);
+        put(rgb);
+    }
+
+    private void writeInt(int value) throws IOException {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+}
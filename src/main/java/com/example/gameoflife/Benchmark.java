@@ -0,0 +1,159 @@
+package com.example.gameoflife;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Headless capacity test: evolves a random soup without rendering and reports throughput,
+// peak heap and GC time. Driven by benchmark.* system properties from Main.
+public final class Benchmark {
+    public record Options(int rows, int cols, double density, long seed, String boundary, String rule,
+                          String engine, int threads, int generations, int warmup) {
+        public Options {
+            if (rows <= 0 || cols <= 0) {
+                throw new IllegalArgumentException("Board size must be positive: %dx%d".formatted(rows, cols));
+            }
+            if (threads < 0 || generations <= 0 || warmup < 0) {
+                throw new IllegalArgumentException(
+                    "Need threads >= 0, generations > 0, warmup >= 0: %d, %d, %d"
+                        .formatted(threads, generations, warmup));
+            }
+            // Fail before the run rather than after the warmup
+            BoundaryCondition.parse(boundary);
+            GameRules.parse(rule);
+            EvolutionEngine.parse(engine);
+        }
+
+        // Keys without the "benchmark." prefix: size (N or RxC), density, seed, boundary, rule,
+        // engine, threads (0 = one per core), generations, warmup
+        public static Options fromProperties(Properties properties) {
+            var size = get(properties, "size", "1024").toLowerCase(Locale.ROOT).split("x");
+            if (size.length > 2) {
+                throw new IllegalArgumentException("Size must be N or ROWSxCOLS: " + get(properties, "size", ""));
+            }
+            var rows = Integer.parseInt(size[0].trim());
+            var cols = size.length == 2 ? Integer.parseInt(size[1].trim()) : rows;
+            return new Options(rows, cols,
+                Double.parseDouble(get(properties, "density", "0.3")),
+                Long.parseLong(get(properties, "seed", "42")),
+                get(properties, "boundary", "toroidal"),
+                get(properties, "rule", "conway"),
+                get(properties, "engine", "wavefront"),
+                Integer.parseInt(get(properties, "threads", "0")),
+                Integer.parseInt(get(properties, "generations", "100")),
+                Integer.parseInt(get(properties, "warmup", "10")));
+        }
+
+        private static String get(Properties properties, String key, String defaultValue) {
+            return properties.getProperty("benchmark." + key, defaultValue);
+        }
+
+        int threadCount() {
+            return threads == 0 ? Runtime.getRuntime().availableProcessors() : threads;
+        }
+    }
+
+    public record Result(Options options, long elapsedNanos, long population, long peakHeapBytes,
+                         long gcMillis, long gcCount) {
+        public double seconds() {
+            return elapsedNanos / 1e9;
+        }
+
+        public double generationsPerSecond() {
+            return options.generations() / seconds();
+        }
+
+        // Infinite boards count the initial bounding box, not the cells they grow into
+        public double cellUpdatesPerSecond() {
+            return generationsPerSecond() * options.rows() * options.cols();
+        }
+
+        public String toText() {
+            return """
+                Board:              %dx%d %s, density %.2f, seed %d
+                Rule / engine:      %s / %s, %d threads
+                Generations:        %d (+%d warmup) in %.3f s
+                Generations/sec:    %,.1f
+                Cell updates/sec:   %,.0f
+                Final population:   %,d
+                Peak heap:          %,.1f MiB
+                GC:                 %d collections, %d ms
+                """.formatted(options.rows(), options.cols(), options.boundary(), options.density(),
+                    options.seed(), options.rule(), options.engine(), options.threadCount(),
+                    options.generations(), options.warmup(), seconds(), generationsPerSecond(),
+                    cellUpdatesPerSecond(), population, peakHeapBytes / (1024.0 * 1024.0), gcCount, gcMillis);
+        }
+
+        public String toJson() {
+            return String.format(Locale.ROOT, """
+                {"rows":%d,"cols":%d,"boundary":"%s","density":%s,"seed":%d,"rule":"%s","engine":"%s",\
+                "threads":%d,"generations":%d,"warmup":%d,"seconds":%.6f,"generationsPerSecond":%.3f,\
+                "cellUpdatesPerSecond":%.1f,"population":%d,"peakHeapBytes":%d,"gcMillis":%d,"gcCount":%d}""",
+                options.rows(), options.cols(), options.boundary(), options.density(), options.seed(),
+                options.rule(), options.engine(), options.threadCount(), options.generations(), options.warmup(),
+                seconds(), generationsPerSecond(), cellUpdatesPerSecond(), population, peakHeapBytes,
+                gcMillis, gcCount);
+        }
+    }
+
+    private Benchmark() {}
+
+    public static Result run(Options options) throws Exception {
+        var boundary = BoundaryCondition.parse(options.boundary());
+        var rules = GameRules.parse(options.rule());
+        var engine = EvolutionEngine.parse(options.engine());
+        var grid = new Grid(options.rows(), options.cols(), boundary);
+        grid.randomFill(options.density(), options.seed());
+
+        var executor = Executors.newFixedThreadPool(options.threadCount());
+        try {
+            grid = evolve(engine, grid, rules, executor, options.warmup());
+
+            System.gc();
+            var heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+            heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+            var gcMillisBefore = gcMillis();
+            var gcCountBefore = gcCount();
+
+            var start = System.nanoTime();
+            grid = evolve(engine, grid, rules, executor, options.generations());
+            var elapsed = System.nanoTime() - start;
+
+            var peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+            return new Result(options, elapsed, grid.population(), peakHeap,
+                gcMillis() - gcMillisBefore, gcCount() - gcCountBefore);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    static Grid evolve(EvolutionEngine engine, Grid grid, GameRules rules, ExecutorService executor,
+                       int generations) throws Exception {
+        // As many generations per call as the engine keeps in flight, so peak heap reflects the engine
+        var batch = Math.max(1, engine.maxInFlight());
+        for (int done = 0; done < generations; ) {
+            var grids = engine.steps(grid, rules, executor, Math.min(batch, generations - done), () -> false);
+            grid = grids.getLast();
+            done += grids.size();
+        }
+        return grid;
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+            .mapToLong(gc -> Math.max(0, gc.getCollectionTime()))
+            .sum();
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+            .mapToLong(gc -> Math.max(0, gc.getCollectionCount()))
+            .sum();
+    }
+}
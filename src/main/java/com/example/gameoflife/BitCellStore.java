@@ -0,0 +1,172 @@
+package com.example.gameoflife;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+final class BitCellStore implements CellStore {
+    // Single-cell writes are atomic per word so concurrent setCellState calls don't lose bits
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int rows;
+    private final int cols;
+    private final int wordsPerRow;
+    private final long[] words;
+
+    BitCellStore(int rows, int cols) {
+        this(rows, cols, new long[rows * ((cols + 63) >>> 6)]);
+    }
+
+    BitCellStore(int rows, int cols, long[] words) {
+        if ((long) rows * ((cols + 63) >>> 6) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                "Board too large for dense storage: %dx%d".formatted(rows, cols));
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.wordsPerRow = (cols + 63) >>> 6;
+        this.words = words;
+    }
+
+    // Raw backing array for engines; callers must treat it as read-only
+    long[] words() {
+        return words;
+    }
+
+    int wordsPerRow() {
+        return wordsPerRow;
+    }
+
+    long word(int row, int wordIndex) {
+        return words[row * wordsPerRow + wordIndex];
+    }
+
+    @Override
+    public boolean get(int row, int col) {
+        return (words[row * wordsPerRow + (col >>> 6)] & (1L << col)) != 0;
+    }
+
+    @Override
+    public void set(int row, int col, boolean alive) {
+        var index = row * wordsPerRow + (col >>> 6);
+        if (alive) {
+            WORDS.getAndBitwiseOr(words, index, 1L << col);
+        } else {
+            WORDS.getAndBitwiseAnd(words, index, ~(1L << col));
+        }
+    }
+
+    @Override
+    public long population() {
+        long count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    @Override
+    public void forEachLive(CellVisitor visitor) {
+        for (int row = 0; row < rows; row++) {
+            forEachLiveInRow(row, 0, cols, visitor);
+        }
+    }
+
+    private void forEachLiveInRow(int row, int from, int to, CellVisitor visitor) {
+        if (from >= to) {
+            return;
+        }
+        var base = row * wordsPerRow;
+        for (int w = from >>> 6; w <= (to - 1) >>> 6; w++) {
+            var word = words[base + w] & rangeMask(w, from, to);
+            while (word != 0) {
+                visitor.visit(row, (w << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    // Bits of word w that fall inside columns [from, to)
+    private static long rangeMask(int w, int from, int to) {
+        var start = w << 6;
+        var low = from > start ? -1L << (from - start) : -1L;
+        var high = to < start + 64 ? -1L >>> (64 - (to - start)) : -1L;
+        return low & high;
+    }
+
+    @Override
+    public long populationIn(int top, int left, int height, int width) {
+        if (width <= 0) {
+            return 0;
+        }
+        var right = left + width;
+        long count = 0;
+        for (int row = top; row < top + height; row++) {
+            var base = row * wordsPerRow;
+            for (int w = left >>> 6; w <= (right - 1) >>> 6; w++) {
+                count += Long.bitCount(words[base + w] & rangeMask(w, left, right));
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public Stream<Cell> liveCellsIn(int top, int left, int height, int width) {
+        // Materializes one row at a time, never the whole region
+        return IntStream.range(top, top + height).boxed().flatMap(row -> {
+            var builder = Stream.<Cell>builder();
+            forEachLiveInRow(row, left, left + width, (r, c) -> builder.add(Cell.of(r, c)));
+            return builder.build();
+        });
+    }
+
+    @Override
+    public void fill(int top, int left, int height, int width, boolean alive) {
+        if (width <= 0) {
+            return;
+        }
+        var right = left + width;
+        for (int row = top; row < top + height; row++) {
+            var base = row * wordsPerRow;
+            for (int w = left >>> 6; w <= (right - 1) >>> 6; w++) {
+                var mask = rangeMask(w, left, right);
+                words[base + w] = alive ? words[base + w] | mask : words[base + w] & ~mask;
+            }
+        }
+    }
+
+    @Override
+    public long[] exportRow(int row, int cols) {
+        return Arrays.copyOfRange(words, row * wordsPerRow, (row + 1) * wordsPerRow);
+    }
+
+    @Override
+    public void importRow(int row, long[] source, int cols) {
+        var base = row * wordsPerRow;
+        for (int w = 0; w < wordsPerRow; w++) {
+            var word = w < source.length ? source[w] : 0L;
+            words[base + w] = word & rangeMask(w, 0, this.cols);
+        }
+    }
+
+    @Override
+    public CellStore copy() {
+        return new BitCellStore(rows, cols, words.clone());
+    }
+
+    @Override
+    public CellStore empty() {
+        return new BitCellStore(rows, cols);
+    }
+
+    @Override
+    public StorageMode mode() {
+        return StorageMode.DENSE;
+    }
+
+    boolean sameCells(BitCellStore other) {
+        return Arrays.equals(words, other.words);
+    }
+}
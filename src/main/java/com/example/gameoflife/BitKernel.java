@@ -0,0 +1,144 @@
+package com.example.gameoflife;
+
+// Bit-sliced Life step: 64 cells per long, any outer-totalistic rule via birth/survival masks
+final class BitKernel {
+
+    private BitKernel() {}
+
+    // Bit-sliced counting covers the 8-cell Moore neighborhood only
+    static boolean supports(GameRules rules) {
+        return !(rules instanceof LargerThanLifeRules) && rules.neighborhood().isMoore();
+    }
+
+    // Bit k set when a dead (birth) or live (survival) cell with k neighbors is alive next
+    static int birthMask(GameRules rules) {
+        return mask(rules, CellState.DEAD);
+    }
+
+    static int survivalMask(GameRules rules) {
+        return mask(rules, CellState.ALIVE);
+    }
+
+    private static int mask(GameRules rules, CellState state) {
+        int mask = 0;
+        for (int count = 0; count <= 8; count++) {
+            if (rules.nextState(state, count).isAlive()) {
+                mask |= 1 << count;
+            }
+        }
+        return mask;
+    }
+
+    static long next(long center,
+                     long northWest, long north, long northEast,
+                     long west, long east,
+                     long southWest, long south, long southEast,
+                     int birth, int survival) {
+        // Carry-save adder tree: s0..s3 are the bit planes of each cell's neighbor count (0..8)
+        var sumA = northWest ^ north ^ northEast;
+        var carryA = (northWest & north) | (northEast & (northWest ^ north));
+        var sumB = west ^ east ^ southWest;
+        var carryB = (west & east) | (southWest & (west ^ east));
+        var sumC = south ^ southEast;
+        var carryC = south & southEast;
+
+        var s0 = sumA ^ sumB ^ sumC;
+        var carryD = (sumA & sumB) | (sumC & (sumA ^ sumB));
+
+        var twosAbc = carryA ^ carryB ^ carryC;
+        var carryE = (carryA & carryB) | (carryC & (carryA ^ carryB));
+        var s1 = twosAbc ^ carryD;
+        var carryF = twosAbc & carryD;
+
+        var s2 = carryE ^ carryF;
+        var s3 = carryE & carryF;
+
+        long born = 0;
+        long survives = 0;
+        for (int count = 0; count <= 8; count++) {
+            var inBirth = (birth & (1 << count)) != 0;
+            var inSurvival = (survival & (1 << count)) != 0;
+            if (!inBirth && !inSurvival) {
+                continue;
+            }
+            var equal = ((count & 1) != 0 ? s0 : ~s0) & ((count & 2) != 0 ? s1 : ~s1) &
+                ((count & 4) != 0 ? s2 : ~s2) & ((count & 8) != 0 ? s3 : ~s3);
+            if (inBirth) {
+                born |= equal;
+            }
+            if (inSurvival) {
+                survives |= equal;
+            }
+        }
+        return (center & survives) | (~center & born);
+    }
+
+    // Cells whose neighbor count, given as bit planes s0..s3, is in the mask
+    static long matching(long s0, long s1, long s2, long s3, int mask) {
+        long matched = 0;
+        for (int count = 0; count <= 8; count++) {
+            if ((mask & (1 << count)) != 0) {
+                matched |= ((count & 1) != 0 ? s0 : ~s0) & ((count & 2) != 0 ? s1 : ~s1) &
+                    ((count & 4) != 0 ? s2 : ~s2) & ((count & 8) != 0 ? s3 : ~s3);
+            }
+        }
+        return matched;
+    }
+
+    // Neighbor words for one board row, with edge bits taken from the topology
+    static final class Rows {
+        private final long[] words;
+        private final int wordsPerRow;
+        private final int westEdge;
+        private final int eastEdge;
+        private final int lastBit;
+        private final long lastMask;
+
+        Rows(long[] words, int cols, Topology topology) {
+            this.words = words;
+            this.wordsPerRow = (cols + 63) >>> 6;
+            this.westEdge = topology.wrapCol(-1);
+            this.eastEdge = topology.wrapCol(cols);
+            this.lastBit = (cols - 1) & 63;
+            this.lastMask = -1L >>> (63 - lastBit);
+        }
+
+        int wordsPerRow() {
+            return wordsPerRow;
+        }
+
+        long word(int row, int w) {
+            return row == Topology.OUTSIDE ? 0 : words[row * wordsPerRow + w];
+        }
+
+        private long bit(int row, int col) {
+            return row == Topology.OUTSIDE || col == Topology.OUTSIDE ? 0 :
+                (words[row * wordsPerRow + (col >>> 6)] >>> col) & 1;
+        }
+
+        // Each cell sees its western neighbor at its own bit position
+        long west(int row, int w) {
+            var carry = w > 0 ? word(row, w - 1) >>> 63 : bit(row, westEdge);
+            return (word(row, w) << 1) | carry;
+        }
+
+        long east(int row, int w) {
+            var shifted = word(row, w) >>> 1;
+            return w < wordsPerRow - 1 ?
+                shifted | (word(row, w + 1) << 63) :
+                shifted | (bit(row, eastEdge) << lastBit);
+        }
+
+        long validMask(int w) {
+            return w < wordsPerRow - 1 ? -1L : lastMask;
+        }
+
+        long step(int above, int row, int below, int w, int birth, int survival) {
+            return next(word(row, w),
+                west(above, w), word(above, w), east(above, w),
+                west(row, w), east(row, w),
+                west(below, w), word(below, w), east(below, w),
+                birth, survival) & validMask(w);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.gameoflife;
 
+import java.util.Locale;
 import java.util.Optional;
 
 public sealed interface BoundaryCondition 
@@ -14,6 +15,12 @@ public sealed interface BoundaryCondition
                     cell.col() >= 0 && cell.col() < cols) ?
                 Optional.of(cell) : Optional.empty();
         }
+
+        @Override
+        public Topology topology(int rows, int cols, int halo) {
+            return Topology.bounded(rows, cols, halo,
+                (index, size) -> index >= 0 && index < size ? index : Topology.OUTSIDE);
+        }
     }
     
     record Toroidal() implements BoundaryCondition {
@@ -23,6 +30,11 @@ public sealed interface BoundaryCondition
             var wrappedCol = Math.floorMod(cell.col(), cols);
             return Optional.of(Cell.of(wrappedRow, wrappedCol));
         }
+
+        @Override
+        public Topology topology(int rows, int cols, int halo) {
+            return Topology.bounded(rows, cols, halo, Math::floorMod);
+        }
     }
     
     record Infinite() implements BoundaryCondition {
@@ -30,7 +42,37 @@ public sealed interface BoundaryCondition
         public Optional<Cell> wrap(Cell cell, int rows, int cols) {
             return Optional.of(cell); // Always valid in infinite grid
         }
+
+        @Override
+        public Topology topology(int rows, int cols, int halo) {
+            return Topology.unbounded(rows, cols, halo);
+        }
     }
     
     Optional<Cell> wrap(Cell cell, int rows, int cols);
+
+    // Precomputed index tables so engines can skip wrap() on the per-neighbor path
+    Topology topology(int rows, int cols, int halo);
+
+    default Topology topology(int rows, int cols) {
+        return topology(rows, cols, 1);
+    }
+
+    // Inverse of parse, for logs and configuration files
+    default String name() {
+        return switch (this) {
+            case Fixed _ -> "fixed";
+            case Toroidal _ -> "toroidal";
+            case Infinite _ -> "infinite";
+        };
+    }
+
+    static BoundaryCondition parse(String name) {
+        return switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "fixed" -> new Fixed();
+            case "toroidal", "torus" -> new Toroidal();
+            case "infinite" -> new Infinite();
+            default -> throw new IllegalArgumentException("Unknown boundary: " + name);
+        };
+    }
 }
@@ -0,0 +1,235 @@
+package com.example.gameoflife;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+// One byte per cell, swept row by row with rolling vertical 3-cell column sums: a neighbor count
+// is two adds and a subtract, and the rule is a 2x9 table lookup. Other neighborhoods sum a
+// halo-padded copy of the board through the neighborhood's compiled index deltas. Bounded,
+// untiled boards and life-like rules only; anything else goes through Grid.evolveWith.
+public final class ByteGridEngine implements EvolutionEngine {
+    private static final int MIN_BAND_ROWS = 32;
+
+    private final boolean parallel;
+
+    // Cells of the last grid we returned, so a game feeding us our own output skips unpacking.
+    // The returned grid is mutable, so lastWords keeps what we produced to catch later edits.
+    private Grid lastOutput;
+    private long[] lastWords;
+    private byte[] lastCells;
+
+    public ByteGridEngine() {
+        this(true);
+    }
+
+    public ByteGridEngine(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    // table[state * 9 + liveNeighbors] is the next state, 0 or 1
+    static byte[] ruleTable(GameRules rules) {
+        return ruleTable(rules, 8);
+    }
+
+    // table[state * (neighbors + 1) + liveNeighbors]
+    static byte[] ruleTable(GameRules rules, int neighbors) {
+        var table = new byte[2 * (neighbors + 1)];
+        for (int count = 0; count <= neighbors; count++) {
+            table[count] = (byte) (rules.nextState(CellState.DEAD, count).isAlive() ? 1 : 0);
+            table[neighbors + 1 + count] = (byte) (rules.nextState(CellState.ALIVE, count).isAlive() ? 1 : 0);
+        }
+        return table;
+    }
+
+    @Override
+    public Grid step(Grid current, GameRules rules, Executor executor)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return step(current, rules, executor, () -> false);
+    }
+
+    @Override
+    public synchronized Grid step(Grid current, GameRules rules, Executor executor, BooleanSupplier stopRequested)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        if (!current.getTopology().isBounded() || rules instanceof LargerThanLifeRules ||
+                current.getStorageMode() == StorageMode.TILED) {
+            forget();
+            return current.evolveWith(rules, executor, stopRequested);
+        }
+        var rows = current.getRows();
+        var cols = current.getCols();
+        var topology = current.getTopology();
+        var words = new long[rows * ((cols + 63) >>> 6)];
+        var abandoned = new AtomicBoolean();
+        var neighborhood = rules.neighborhood();
+        if (!neighborhood.isMoore()) {
+            var padded = pad(current.denseWords(), rows, cols, topology, neighborhood.radius());
+            var table = ruleTable(rules, neighborhood.size());
+            runBands(rows, executor, (from, to) -> evolveBand(padded, words, cols, neighborhood, table,
+                from, to, stopRequested, abandoned));
+            if (abandoned.get()) {
+                throw new CancellationException("Step abandoned before all rows were computed");
+            }
+            forget();
+            return Grid.fromWords(rows, cols, current.getBoundary(), topology, words);
+        }
+
+        var currentWords = current.denseWords();
+        var cells = current == lastOutput && Arrays.equals(currentWords, lastWords) ?
+            lastCells : unpack(currentWords, rows, cols);
+        var table = ruleTable(rules);
+        var next = new byte[cells.length];
+        runBands(rows, executor, (from, to) -> evolveBand(
+            cells, next, words, rows, cols, topology, table, from, to, stopRequested, abandoned));
+        if (abandoned.get()) {
+            throw new CancellationException("Step abandoned before all rows were computed");
+        }
+        lastOutput = Grid.fromWords(rows, cols, current.getBoundary(), topology, words);
+        lastWords = words.clone();
+        lastCells = next;
+        return lastOutput;
+    }
+
+    private void forget() {
+        lastOutput = null;
+        lastWords = null;
+        lastCells = null;
+    }
+
+    private interface Band {
+        void run(int from, int to);
+    }
+
+    private void runBands(int rows, Executor executor, Band band) throws InterruptedException, ExecutionException {
+        var bands = parallel ? Math.max(1, Math.min(rows / MIN_BAND_ROWS, Runtime.getRuntime().availableProcessors() * 2)) : 1;
+        if (bands == 1) {
+            band.run(0, rows);
+            return;
+        }
+        var futures = new ArrayList<CompletableFuture<Void>>(bands);
+        for (int i = 0; i < bands; i++) {
+            var from = (int) ((long) rows * i / bands);
+            var to = (int) ((long) rows * (i + 1) / bands);
+            futures.add(CompletableFuture.runAsync(() -> band.run(from, to), executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+    }
+
+    // Board copied into a (rows + 2 * halo) x (cols + 2 * halo) array with the halo filled per topology
+    private static byte[] pad(long[] words, int rows, int cols, Topology topology, int halo) {
+        var wordsPerRow = (cols + 63) >>> 6;
+        var stride = cols + 2 * halo;
+        var colIndex = new int[stride];
+        for (int p = 0; p < stride; p++) {
+            colIndex[p] = topology.wrapCol(p - halo);
+        }
+        var padded = new byte[(rows + 2 * halo) * stride];
+        for (int p = 0; p < rows + 2 * halo; p++) {
+            var row = topology.wrapRow(p - halo);
+            if (row == Topology.OUTSIDE) {
+                continue;
+            }
+            for (int q = 0; q < stride; q++) {
+                var col = colIndex[q];
+                if (col != Topology.OUTSIDE) {
+                    padded[p * stride + q] = (byte) ((words[row * wordsPerRow + (col >>> 6)] >>> col) & 1);
+                }
+            }
+        }
+        return padded;
+    }
+
+    private static void evolveBand(byte[] padded, long[] words, int cols, Neighborhood neighborhood, byte[] table,
+                                   int from, int to, BooleanSupplier stopRequested, AtomicBoolean abandoned) {
+        var wordsPerRow = (cols + 63) >>> 6;
+        var halo = neighborhood.radius();
+        var stride = cols + 2 * halo;
+        var deltas = neighborhood.indexDeltas(stride);
+        var states = neighborhood.size() + 1;
+        for (int row = from; row < to; row++) {
+            if (stopRequested.getAsBoolean()) {
+                abandoned.set(true);
+                return;
+            }
+            var base = (row + halo) * stride + halo;
+            long word = 0;
+            for (int col = 0; col < cols; col++) {
+                var index = base + col;
+                var count = 0;
+                for (int delta : deltas) {
+                    count += padded[index + delta];
+                }
+                var state = table[padded[index] * states + count];
+                word |= (long) state << col;
+                if ((col & 63) == 63 || col == cols - 1) {
+                    words[row * wordsPerRow + (col >>> 6)] = word;
+                    word = 0;
+                }
+            }
+        }
+    }
+
+    private static byte[] unpack(long[] words, int rows, int cols) {
+        var wordsPerRow = (cols + 63) >>> 6;
+        var cells = new byte[rows * cols];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                cells[row * cols + col] = (byte) ((words[row * wordsPerRow + (col >>> 6)] >>> col) & 1);
+            }
+        }
+        return cells;
+    }
+
+    private static void evolveBand(byte[] cells, byte[] next, long[] words, int rows, int cols,
+                                   Topology topology, byte[] table, int from, int to,
+                                   BooleanSupplier stopRequested, AtomicBoolean abandoned) {
+        var wordsPerRow = (cols + 63) >>> 6;
+        var west = topology.wrapCol(-1);
+        var east = topology.wrapCol(cols);
+        // sums[c + 1]: live cells in column c over rows row-1..row+1; sums[0] and sums[cols + 1] are the edges
+        var sums = new int[cols + 2];
+        addRow(cells, topology.wrapRow(from - 1), cols, sums, 1);
+        addRow(cells, from, cols, sums, 1);
+        addRow(cells, topology.wrapRow(from + 1), cols, sums, 1);
+
+        for (int row = from; row < to; row++) {
+            if (stopRequested.getAsBoolean()) {
+                abandoned.set(true);
+                return;
+            }
+            sums[0] = west == Topology.OUTSIDE ? 0 : sums[west + 1];
+            sums[cols + 1] = east == Topology.OUTSIDE ? 0 : sums[east + 1];
+
+            var base = row * cols;
+            var window = sums[0] + sums[1];
+            long word = 0;
+            for (int col = 0; col < cols; col++) {
+                window += sums[col + 2];
+                var alive = cells[base + col];
+                var state = table[alive * 9 + window - alive];
+                next[base + col] = state;
+                word |= (long) state << col;
+                if ((col & 63) == 63 || col == cols - 1) {
+                    words[row * wordsPerRow + (col >>> 6)] = word;
+                    word = 0;
+                }
+                window -= sums[col];
+            }
+
+            addRow(cells, topology.wrapRow(row - 1), cols, sums, -1);
+            addRow(cells, topology.wrapRow(row + 2), cols, sums, 1);
+        }
+    }
+
+    private static void addRow(byte[] cells, int row, int cols, int[] sums, int sign) {
+        if (row == Topology.OUTSIDE) {
+            return;
+        }
+        var base = row * cols;
+        for (int col = 0; col < cols; col++) {
+            sums[col + 1] += sign * cells[base + col];
+        }
+    }
+}
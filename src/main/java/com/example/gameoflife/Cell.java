@@ -6,6 +6,15 @@ public record Cell(int row, int col) implements Comparable<Cell> {
         return new Cell(row, col);
     }
     
+    // Packs both coordinates into one long for compact primitive storage
+    public static Cell unpack(long packed) {
+        return new Cell((int) (packed >> 32), (int) packed);
+    }
+    
+    public long pack() {
+        return ((long) row << 32) | (col & 0xFFFFFFFFL);
+    }
+    
     public Cell withOffset(int dRow, int dCol) {
         return new Cell(row + dRow, col + dCol);
     }
@@ -0,0 +1,28 @@
+package com.example.gameoflife;
+
+import java.util.stream.Stream;
+
+// Storage backend behind Grid; coordinates arrive already wrapped and clipped
+sealed interface CellStore permits SparseCellStore, BitCellStore, TiledCellStore {
+    boolean get(int row, int col);
+    void set(int row, int col, boolean alive);
+    long population();
+    void forEachLive(CellVisitor visitor);
+    Stream<Cell> liveCellsIn(int top, int left, int height, int width);
+    long populationIn(int top, int left, int height, int width);
+    void fill(int top, int left, int height, int width, boolean alive);
+    long[] exportRow(int row, int cols);
+    void importRow(int row, long[] words, int cols);
+    CellStore copy();
+    // Same kind and configuration, no live cells
+    CellStore empty();
+    StorageMode mode();
+
+    static CellStore create(StorageMode mode, int rows, int cols) {
+        return switch (mode) {
+            case SPARSE -> new SparseCellStore();
+            case DENSE -> new BitCellStore(rows, cols);
+            case TILED -> new TiledCellStore(SpillPolicy.defaults());
+        };
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.gameoflife;
+
+@FunctionalInterface
+interface CellVisitor {
+    void visit(int row, int col);
+}
@@ -0,0 +1,6 @@
+package com.example.gameoflife;
+
+// One 8-connected group of live cells; the box is in board coordinates
+public record Component(int id, int population, int top, int left, int height, int width,
+                        PatternBitmap shape, long canonicalHash) {
+}
@@ -0,0 +1,242 @@
+package com.example.gameoflife;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+// Splits live cells into 8-connected objects with a lock-free union-find over the bitboard,
+// or over the live cells themselves on sparse boards
+public final class ComponentLabeler {
+    private static final int MIN_BAND_ROWS = 64;
+    private static final int MIN_CHUNK_CELLS = 4096;
+    // Backward half of the Moore neighborhood: every undirected edge is visited exactly once
+    private static final int[][] BACKWARD = {{0, -1}, {-1, -1}, {-1, 0}, {-1, 1}};
+
+    private ComponentLabeler() {}
+
+    public static List<Component> label(Grid grid, Executor executor)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        if (grid.store() instanceof BitCellStore) {
+            return label(grid.denseWords(), grid.getRows(), grid.getCols(), grid.getTopology(), executor);
+        }
+        return labelSparse(grid, executor);
+    }
+
+    private static List<Component> label(long[] words, int rows, int cols, Topology topology, Executor executor)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        var wordsPerRow = (cols + 63) >>> 6;
+        // prefix[i]: live cells before word i, giving every live cell a dense index
+        var prefix = new int[words.length + 1];
+        for (int i = 0; i < words.length; i++) {
+            prefix[i + 1] = prefix[i] + Long.bitCount(words[i]);
+        }
+        var population = prefix[words.length];
+        if (population == 0) {
+            return List.of();
+        }
+        var parent = newForest(population);
+
+        var bands = Math.max(1, Math.min(rows / MIN_BAND_ROWS, Runtime.getRuntime().availableProcessors() * 4));
+        var futures = new ArrayList<CompletableFuture<Void>>(bands);
+        for (int band = 0; band < bands; band++) {
+            var from = (int) ((long) rows * band / bands);
+            var to = (int) ((long) rows * (band + 1) / bands);
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int row = from; row < to; row++) {
+                    for (int w = 0; w < wordsPerRow; w++) {
+                        var word = words[row * wordsPerRow + w];
+                        while (word != 0) {
+                            var col = (w << 6) + Long.numberOfTrailingZeros(word);
+                            var index = index(words, prefix, wordsPerRow, row, col);
+                            for (var offset : BACKWARD) {
+                                var r = topology.wrapRow(row + offset[0]);
+                                var c = topology.wrapCol(col + offset[1]);
+                                if (r != Topology.OUTSIDE && c != Topology.OUTSIDE &&
+                                        (words[r * wordsPerRow + (c >>> 6)] & (1L << c)) != 0) {
+                                    union(parent, index, index(words, prefix, wordsPerRow, r, c));
+                                }
+                            }
+                            word &= word - 1;
+                        }
+                    }
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+
+        return components(parent, population, visitor -> forEachLive(words, rows, wordsPerRow, visitor));
+    }
+
+    // Sparse boards: union-find over the live cells alone, so cost follows the population and
+    // never the span between them. Cells are packed and sorted row-major; a cell's index is its
+    // position in that array, found by binary search
+    private static List<Component> labelSparse(Grid grid, Executor executor)
+            throws InterruptedException, ExecutionException {
+        var topology = grid.getTopology();
+        var packed = new long[Math.toIntExact(grid.population())];
+        var count = new int[1];
+        grid.store().forEachLive((row, col) -> packed[count[0]++] = pack(row, col));
+        var population = count[0];
+        if (population == 0) {
+            return List.of();
+        }
+        Arrays.parallelSort(packed, 0, population);
+        var parent = newForest(population);
+
+        var chunks = Math.max(1, Math.min(population / MIN_CHUNK_CELLS, Runtime.getRuntime().availableProcessors() * 4));
+        var futures = new ArrayList<CompletableFuture<Void>>(chunks);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            var from = (int) ((long) population * chunk / chunks);
+            var to = (int) ((long) population * (chunk + 1) / chunks);
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int index = from; index < to; index++) {
+                    var row = unpackRow(packed[index]);
+                    var col = unpackCol(packed[index]);
+                    for (var offset : BACKWARD) {
+                        var r = topology.wrapRow(row + offset[0]);
+                        var c = topology.wrapCol(col + offset[1]);
+                        if (r != Topology.OUTSIDE && c != Topology.OUTSIDE) {
+                            var neighbor = Arrays.binarySearch(packed, 0, population, pack(r, c));
+                            if (neighbor >= 0) {
+                                union(parent, index, neighbor);
+                            }
+                        }
+                    }
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+
+        return components(parent, population, visitor -> {
+            for (int index = 0; index < population; index++) {
+                visitor.visit(index, unpackRow(packed[index]), unpackCol(packed[index]));
+            }
+        });
+    }
+
+    // Row in the high half; column with its sign bit flipped so unsigned order matches signed order
+    private static long pack(int row, int col) {
+        return ((long) row << 32) | ((col ^ Integer.MIN_VALUE) & 0xFFFF_FFFFL);
+    }
+
+    private static int unpackRow(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    private static int unpackCol(long packed) {
+        return (int) packed ^ Integer.MIN_VALUE;
+    }
+
+    private static AtomicIntegerArray newForest(int population) {
+        var parent = new AtomicIntegerArray(population);
+        for (int i = 0; i < population; i++) {
+            parent.set(i, i);
+        }
+        return parent;
+    }
+
+    // Turns a finished forest into components; cells must be visited in ascending index order
+    private static List<Component> components(AtomicIntegerArray parent, int population,
+                                              Consumer<IndexedCellVisitor> forEachLive) {
+        // Roots are the smallest index of each set, so one ascending pass numbers components
+        var componentOf = new int[population];
+        int count = 0;
+        for (int i = 0; i < population; i++) {
+            var root = find(parent, i);
+            componentOf[i] = root == i ? count++ : componentOf[root];
+        }
+
+        var top = new int[count];
+        var left = new int[count];
+        var bottom = new int[count];
+        var right = new int[count];
+        var sizes = new int[count];
+        Arrays.fill(top, Integer.MAX_VALUE);
+        Arrays.fill(left, Integer.MAX_VALUE);
+        Arrays.fill(bottom, Integer.MIN_VALUE);
+        Arrays.fill(right, Integer.MIN_VALUE);
+        forEachLive.accept((index, row, col) -> {
+            var id = componentOf[index];
+            top[id] = Math.min(top[id], row);
+            bottom[id] = Math.max(bottom[id], row);
+            left[id] = Math.min(left[id], col);
+            right[id] = Math.max(right[id], col);
+            sizes[id]++;
+        });
+
+        var shapes = new PatternBitmap[count];
+        for (int id = 0; id < count; id++) {
+            shapes[id] = new PatternBitmap(bottom[id] - top[id] + 1, right[id] - left[id] + 1);
+        }
+        forEachLive.accept((index, row, col) -> {
+            var id = componentOf[index];
+            shapes[id].set(row - top[id], col - left[id]);
+        });
+
+        // Objects wrapped across a torus edge get a box spanning the board; their shape is kept as-is
+        return IntStream.range(0, count).parallel()
+            .mapToObj(id -> new Component(id, sizes[id], top[id], left[id],
+                shapes[id].getHeight(), shapes[id].getWidth(), shapes[id], shapes[id].canonicalHash()))
+            .toList();
+    }
+
+    @FunctionalInterface
+    private interface IndexedCellVisitor {
+        void visit(int index, int row, int col);
+    }
+
+    private static void forEachLive(long[] words, int rows, int wordsPerRow, IndexedCellVisitor visitor) {
+        int index = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int w = 0; w < wordsPerRow; w++) {
+                var word = words[row * wordsPerRow + w];
+                while (word != 0) {
+                    visitor.visit(index++, row, (w << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+    }
+
+    private static int index(long[] words, int[] prefix, int wordsPerRow, int row, int col) {
+        var w = row * wordsPerRow + (col >>> 6);
+        return prefix[w] + Long.bitCount(words[w] & ((1L << col) - 1));
+    }
+
+    private static int find(AtomicIntegerArray parent, int x) {
+        while (true) {
+            var p = parent.get(x);
+            if (p == x) {
+                return x;
+            }
+            var grandparent = parent.get(p);
+            if (grandparent != p) {
+                parent.compareAndSet(x, p, grandparent); // path halving
+            }
+            x = p;
+        }
+    }
+
+    // Links the larger root under the smaller one; retries if another thread moved either root
+    private static void union(AtomicIntegerArray parent, int a, int b) {
+        while (true) {
+            a = find(parent, a);
+            b = find(parent, b);
+            if (a == b) {
+                return;
+            }
+            if (a < b) {
+                var swap = a;
+                a = b;
+                b = swap;
+            }
+            if (parent.compareAndSet(a, a, b)) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.gameoflife;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+// Compact binary form of a GenerationDelta: varint header, then zigzag varint gaps between sorted packed cells
+public final class DeltaCodec {
+
+    private DeltaCodec() {}
+
+    public static byte[] encode(GenerationDelta delta) {
+        var births = delta.births();
+        var deaths = delta.deaths();
+        var out = new ByteArrayOutputStream(16 + 2 * (births.length + deaths.length));
+        writeVarLong(out, delta.generation());
+        writeVarLong(out, births.length);
+        writeVarLong(out, deaths.length);
+        writeCells(out, births);
+        writeCells(out, deaths);
+        return out.toByteArray();
+    }
+
+    public static GenerationDelta decode(byte[] bytes) {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    public static GenerationDelta decode(ByteBuffer buffer) {
+        var generation = (int) readVarLong(buffer);
+        var births = new long[checkedCount(readVarLong(buffer), buffer)];
+        var deaths = new long[checkedCount(readVarLong(buffer), buffer)];
+        readCells(buffer, births);
+        readCells(buffer, deaths);
+        return new GenerationDelta(generation, births, deaths);
+    }
+
+    // Every cell takes at least one byte, so larger counts mean a corrupt frame
+    private static int checkedCount(long count, ByteBuffer buffer) {
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalArgumentException("Corrupt delta frame: cell count " + count);
+        }
+        return (int) count;
+    }
+
+    private static void writeCells(ByteArrayOutputStream out, long[] sorted) {
+        long previous = 0;
+        for (long packed : sorted) {
+            var gap = packed - previous;
+            writeVarLong(out, (gap << 1) ^ (gap >> 63));
+            previous = packed;
+        }
+    }
+
+    private static void readCells(ByteBuffer buffer, long[] target) {
+        long previous = 0;
+        for (int i = 0; i < target.length; i++) {
+            var zigzag = readVarLong(buffer);
+            previous += (zigzag >>> 1) ^ -(zigzag & 1);
+            target[i] = previous;
+        }
+    }
+
+    static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            var b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Corrupt delta frame: varint too long");
+    }
+}
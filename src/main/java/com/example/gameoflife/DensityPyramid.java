@@ -0,0 +1,162 @@
+package com.example.gameoflife;
+
+// Mipmap of live-cell counts: level 0 counts 32x32 blocks, each level above sums 2x2 blocks of the
+// one below, up to a single block covering the board. Births and deaths adjust one counter per
+// level, so keeping it current costs O(changes x levels) per generation, and rendering a viewport
+// reads a handful of blocks per pixel whatever the zoom. Infinite boards are tracked over their
+// nominal rows x cols frame; cells that wander outside it are not counted.
+public final class DensityPyramid implements GenerationListener {
+    private static final int BASE_SHIFT = 5;
+
+    private Grid grid;
+    private int rows;
+    private int cols;
+    private int[][] counts;
+    private int[] levelCols;
+
+    public DensityPyramid(Grid grid) {
+        rebuild(grid);
+    }
+
+    @Override
+    public synchronized void onGeneration(GenerationDelta delta, Grid grid) {
+        // A busy generation touches more counters than a fresh build reads blocks
+        if (grid.getRows() != rows || grid.getCols() != cols || delta.size() > counts[0].length) {
+            rebuild(grid);
+            return;
+        }
+        this.grid = grid;
+        for (long packed : delta.births()) {
+            adjust(Cell.unpack(packed), 1);
+        }
+        for (long packed : delta.deaths()) {
+            adjust(Cell.unpack(packed), -1);
+        }
+    }
+
+    public synchronized void rebuild(Grid grid) {
+        this.grid = grid;
+        rows = grid.getRows();
+        cols = grid.getCols();
+        var levels = 1;
+        while (((rows - 1) >> (BASE_SHIFT + levels - 1)) > 0 || ((cols - 1) >> (BASE_SHIFT + levels - 1)) > 0) {
+            levels++;
+        }
+        counts = new int[levels][];
+        levelCols = new int[levels];
+        for (int level = 0; level < levels; level++) {
+            var shift = BASE_SHIFT + level;
+            levelCols[level] = ((cols - 1) >> shift) + 1;
+            counts[level] = new int[(((rows - 1) >> shift) + 1) * levelCols[level]];
+        }
+
+        var base = counts[0];
+        var baseCols = levelCols[0];
+        if (grid.store() instanceof BitCellStore) {
+            // Each 64-bit word splits into two 32-column blocks
+            var words = grid.denseWords();
+            var wordsPerRow = (cols + 63) >>> 6;
+            for (int row = 0; row < rows; row++) {
+                var blockRow = (row >> BASE_SHIFT) * baseCols;
+                for (int w = 0; w < wordsPerRow; w++) {
+                    var word = words[row * wordsPerRow + w];
+                    base[blockRow + 2 * w] += Integer.bitCount((int) word);
+                    if (2 * w + 1 < baseCols) {
+                        base[blockRow + 2 * w + 1] += Integer.bitCount((int) (word >>> 32));
+                    }
+                }
+            }
+        } else {
+            grid.store().forEachLive((row, col) -> {
+                if (row >= 0 && row < rows && col >= 0 && col < cols) {
+                    base[(row >> BASE_SHIFT) * baseCols + (col >> BASE_SHIFT)]++;
+                }
+            });
+        }
+        for (int level = 1; level < levels; level++) {
+            var below = counts[level - 1];
+            var belowCols = levelCols[level - 1];
+            for (int i = 0; i < below.length; i++) {
+                var blockRow = i / belowCols;
+                var blockCol = i % belowCols;
+                counts[level][(blockRow >> 1) * levelCols[level] + (blockCol >> 1)] += below[i];
+            }
+        }
+    }
+
+    private void adjust(Cell cell, int change) {
+        if (cell.row() < 0 || cell.row() >= rows || cell.col() < 0 || cell.col() >= cols) {
+            return;
+        }
+        for (int level = 0; level < counts.length; level++) {
+            var shift = BASE_SHIFT + level;
+            counts[level][(cell.row() >> shift) * levelCols[level] + (cell.col() >> shift)] += change;
+        }
+    }
+
+    public synchronized int levels() {
+        return counts.length;
+    }
+
+    public static int blockSize(int level) {
+        return 1 << (BASE_SHIFT + level);
+    }
+
+    public synchronized int count(int level, int blockRow, int blockCol) {
+        if (level < 0 || level >= counts.length) {
+            throw new IllegalArgumentException("Level out of range: " + level);
+        }
+        return counts[level][blockRow * levelCols[level] + blockCol];
+    }
+
+    // Fraction of live cells under each output pixel, row-major. Pixels much larger than a block
+    // sum the coarsest level whose blocks still fit inside them, pro-rating partially covered
+    // blocks; pixels under 32 cells across count exactly. Parts of the viewport off the board
+    // don't count towards a pixel's area.
+    public synchronized float[] render(int top, int left, int height, int width, int outRows, int outCols) {
+        if (height <= 0 || width <= 0 || outRows <= 0 || outCols <= 0) {
+            throw new IllegalArgumentException(
+                "Viewport and output must be non-empty: %dx%d -> %dx%d".formatted(height, width, outRows, outCols));
+        }
+        var cellsPerPixel = Math.min(height / outRows, width / outCols);
+        var level = -1;
+        while (level + 1 < counts.length && blockSize(level + 1) <= cellsPerPixel) {
+            level++;
+        }
+
+        var pixels = new float[outRows * outCols];
+        for (int pr = 0; pr < outRows; pr++) {
+            var r0 = Math.max(0, top + (int) ((long) height * pr / outRows));
+            var r1 = Math.min(rows, top + (int) ((long) height * (pr + 1) / outRows));
+            for (int pc = 0; pc < outCols; pc++) {
+                var c0 = Math.max(0, left + (int) ((long) width * pc / outCols));
+                var c1 = Math.min(cols, left + (int) ((long) width * (pc + 1) / outCols));
+                if (r0 >= r1 || c0 >= c1) {
+                    continue;
+                }
+                var live = level < 0 ? grid.populationIn(r0, c0, r1 - r0, c1 - c0) : blockSum(level, r0, c0, r1, c1);
+                pixels[pr * outCols + pc] = (float) (live / ((double) (r1 - r0) * (c1 - c0)));
+            }
+        }
+        return pixels;
+    }
+
+    private double blockSum(int level, int r0, int c0, int r1, int c1) {
+        var shift = BASE_SHIFT + level;
+        var size = 1 << shift;
+        var sum = 0.0;
+        for (int blockRow = r0 >> shift; blockRow <= (r1 - 1) >> shift; blockRow++) {
+            var blockTop = blockRow << shift;
+            var blockHeight = Math.min(rows, blockTop + size) - blockTop;
+            var overlapRows = Math.min(r1, blockTop + size) - Math.max(r0, blockTop);
+            for (int blockCol = c0 >> shift; blockCol <= (c1 - 1) >> shift; blockCol++) {
+                var blockLeft = blockCol << shift;
+                var blockWidth = Math.min(cols, blockLeft + size) - blockLeft;
+                var overlapCols = Math.min(c1, blockLeft + size) - Math.max(c0, blockLeft);
+                var count = counts[level][blockRow * levelCols[level] + blockCol];
+                sum += count * ((double) overlapRows * overlapCols) / ((double) blockHeight * blockWidth);
+            }
+        }
+        return sum;
+    }
+}
@@ -15,6 +15,9 @@ public enum Direction {
         this.dCol = dCol;
     }
     
+    public int dRow() { return dRow; }
+    public int dCol() { return dCol; }
+    
     public Cell apply(Cell cell) {
         return cell.withOffset(dRow, dCol);
     }
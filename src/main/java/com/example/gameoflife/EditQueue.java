@@ -0,0 +1,33 @@
+package com.example.gameoflife;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+// Lock-free multi-producer, single-consumer queue of cell edits: producers push onto a Treiber
+// stack with one CAS, and the consumer takes the whole stack with one swap and replays it oldest first
+final class EditQueue {
+    private record Node(Cell[] cells, CellState state, Node next) {}
+
+    private final AtomicReference<Node> head = new AtomicReference<>();
+
+    void push(Cell[] cells, CellState state) {
+        Node current;
+        do {
+            current = head.get();
+        } while (!head.compareAndSet(current, new Node(cells, state, current)));
+    }
+
+    void drain(BiConsumer<Cell, CellState> sink) {
+        Node newest = head.getAndSet(null);
+        Node oldest = null;
+        while (newest != null) {
+            oldest = new Node(newest.cells(), newest.state(), oldest);
+            newest = newest.next();
+        }
+        for (var node = oldest; node != null; node = node.next()) {
+            for (var cell : node.cells()) {
+                sink.accept(cell, node.state());
+            }
+        }
+    }
+}
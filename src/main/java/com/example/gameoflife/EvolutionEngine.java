@@ -0,0 +1,75 @@
+package com.example.gameoflife;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+
+@FunctionalInterface
+public interface EvolutionEngine {
+    // Produces the next generation; the current grid must not be modified
+    Grid step(Grid current, GameRules rules, Executor executor)
+        throws InterruptedException, ExecutionException, TimeoutException;
+
+    // Cancellable step: engines poll stopRequested between tiles and throw CancellationException
+    // rather than return a partial grid. Engines that cannot stop early just finish the step.
+    default Grid step(Grid current, GameRules rules, Executor executor, BooleanSupplier stopRequested)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return step(current, rules, executor);
+    }
+
+    // Several generations in order, each fed its predecessor. A stop request ends the list early,
+    // never mid-grid, so it may hold fewer than count grids.
+    default List<Grid> steps(Grid current, GameRules rules, Executor executor, int count,
+                             BooleanSupplier stopRequested)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        var result = new ArrayList<Grid>(count);
+        var grid = current;
+        for (int i = 0; i < count && !stopRequested.getAsBoolean(); i++) {
+            try {
+                grid = step(grid, rules, executor, stopRequested);
+            } catch (CancellationException _) {
+                break;
+            }
+            result.add(grid);
+        }
+        return result;
+    }
+
+    // Generations worth computing in one steps() call; the game never asks for more at once. Each one
+    // is a full board held until the call returns, so only engines that pipeline raise it.
+    default int maxInFlight() {
+        return 1;
+    }
+
+    // Engine by name, as used on the command line: standard, hibernating, wavefront or byte
+    static EvolutionEngine parse(String name) {
+        return switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "standard" -> standard();
+            case "hibernating" -> new HibernatingEngine();
+            case "wavefront" -> new WavefrontEngine();
+            case "byte" -> new ByteGridEngine();
+            default -> throw new IllegalArgumentException("Unknown engine: " + name);
+        };
+    }
+
+    static EvolutionEngine standard() {
+        return new EvolutionEngine() {
+            @Override
+            public Grid step(Grid current, GameRules rules, Executor executor)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                return current.evolveWith(rules, executor);
+            }
+
+            @Override
+            public Grid step(Grid current, GameRules rules, Executor executor, BooleanSupplier stopRequested)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                return current.evolveWith(rules, executor, stopRequested);
+            }
+        };
+    }
+}
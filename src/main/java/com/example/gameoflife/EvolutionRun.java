@@ -0,0 +1,63 @@
+package com.example.gameoflife;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Progress handle for GameOfLife.evolveAsync; completes with the generation reached.
+// cancel() and the deadline are cooperative: the run stops at the next tile or generation
+// boundary and the game keeps the last whole generation it committed.
+public final class EvolutionRun extends CompletableFuture<Integer> {
+    private final int requestedSteps;
+    private final long deadlineNanos;
+    private final boolean hasDeadline;
+    private final AtomicInteger completedSteps = new AtomicInteger();
+    private volatile boolean cancelRequested;
+    // Completes once the worker has exited, even if this future was cancelled earlier
+    private final CompletableFuture<Integer> stopped = new CompletableFuture<>();
+
+    EvolutionRun(int requestedSteps, Duration timeout) {
+        this.requestedSteps = requestedSteps;
+        this.hasDeadline = timeout != null;
+        this.deadlineNanos = hasDeadline ? System.nanoTime() + timeout.toNanos() : 0;
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        cancelRequested = true;
+        return super.cancel(mayInterruptIfRunning);
+    }
+
+    boolean isStopRequested() {
+        return cancelRequested || isDone() || isPastDeadline();
+    }
+
+    boolean isPastDeadline() {
+        return hasDeadline && System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    void stepsCompleted(int steps) {
+        completedSteps.addAndGet(steps);
+    }
+
+    void workerStopped(int generation) {
+        stopped.complete(generation);
+    }
+
+    // The generation the game was left at; safe to inspect the game after this completes
+    public CompletableFuture<Integer> whenStopped() {
+        return stopped.copy();
+    }
+
+    public int getRequestedSteps() {
+        return requestedSteps;
+    }
+
+    public int getCompletedSteps() {
+        return completedSteps.get();
+    }
+
+    public double getProgress() {
+        return requestedSteps == 0 ? 1.0 : (double) completedSteps.get() / requestedSteps;
+    }
+}
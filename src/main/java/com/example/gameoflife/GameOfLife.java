@@ -1,34 +1,151 @@
 package com.example.gameoflife;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.*;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
 public class GameOfLife implements AutoCloseable {
-    private Grid currentGrid;
+    // Replaced under the game's lock, one whole generation at a time; readers just load the reference
+    private volatile GenerationSnapshot snapshot;
     private final GameRules rules;
+    private final EvolutionEngine engine;
     private final ExecutorService executor;
-    private int generation;
+    private final List<GenerationListener> listeners = new CopyOnWriteArrayList<>();
+    private final EditQueue edits = new EditQueue();
+    // Drained edits not yet part of a committed generation, last edit per cell; guarded by the game's lock
+    private final Map<Cell, CellState> pendingEdits = new HashMap<>();
+    private GenerationHistory history;
     
     public GameOfLife(Grid initialGrid) {
         this(initialGrid, GameRules.conway());
     }
     
     public GameOfLife(Grid initialGrid, GameRules rules) {
-        this.currentGrid = Objects.requireNonNull(initialGrid, "Initial grid cannot be null").copy();
+        this(initialGrid, rules, EvolutionEngine.standard());
+    }
+    
+    public GameOfLife(Grid initialGrid, GameRules rules, EvolutionEngine engine) {
+        this.snapshot = new GenerationSnapshot(0,
+            Objects.requireNonNull(initialGrid, "Initial grid cannot be null").copy());
         this.rules = Objects.requireNonNull(rules, "Game rules cannot be null");
+        this.engine = Objects.requireNonNull(engine, "Evolution engine cannot be null");
         this.executor = Executors.newVirtualThreadPerTaskExecutor();
-        this.generation = 0;
     }
     
     public void evolve() throws InterruptedException, ExecutionException, TimeoutException {
-        currentGrid = currentGrid.evolveWith(rules, executor);
-        generation++;
+        advance(1, () -> false);
+    }
+
+    // Commits only whole generations; returns how many the engine finished
+    private synchronized int advance(int steps, BooleanSupplier stopRequested)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        var grids = engine.steps(withEdits(snapshot.grid()), rules, executor, steps, stopRequested);
+        if (!grids.isEmpty()) {
+            pendingEdits.clear();
+        }
+        for (var nextGrid : grids) {
+            var current = snapshot;
+            if (!listeners.isEmpty()) {
+                // One diff per generation, shared by every listener
+                var delta = GenerationDelta.between(current.generation() + 1, current.grid(), nextGrid);
+                listeners.forEach(listener -> listener.onGeneration(delta, nextGrid));
+            }
+            snapshot = new GenerationSnapshot(current.generation() + 1, nextGrid);
+        }
+        return grids.size();
+    }
+
+    // Queued edits become part of the next generation: listeners see them folded into its delta
+    private Grid withEdits(Grid board) {
+        edits.drain((cell, state) -> board.getBoundary().wrap(cell, board.getRows(), board.getCols())
+            .ifPresent(wrapped -> pendingEdits.put(wrapped, state)));
+        pendingEdits.entrySet().removeIf(edit -> board.getCellState(edit.getKey()).isAlive() == edit.getValue().isAlive());
+        if (pendingEdits.isEmpty()) {
+            return board;
+        }
+        // A fresh grid, never the published one: engines recognize their own last output by identity
+        var edited = board.copy();
+        pendingEdits.forEach(edited::setCellState);
+        return edited;
+    }
+
+    // Safe from any thread and never blocks; applied at the start of the next generation
+    public void submitEdit(Cell cell, CellState state) {
+        edits.push(new Cell[] {Objects.requireNonNull(cell, "Cell cannot be null")},
+            Objects.requireNonNull(state, "Cell state cannot be null"));
+    }
+
+    public void submitEdits(Collection<Cell> cells, CellState state) {
+        var batch = cells.toArray(Cell[]::new);
+        for (var cell : batch) {
+            Objects.requireNonNull(cell, "Cell cannot be null");
+        }
+        edits.push(batch, Objects.requireNonNull(state, "Cell state cannot be null"));
     }
 
     public void evolve(int steps) throws InterruptedException, ExecutionException, TimeoutException {
-        for (int i = 0; i < steps; i++) {
-            evolve();
+        for (int done = 0; done < steps; ) {
+            done += advance(Math.min(steps - done, batchSize()), () -> false);
+        }
+    }
+
+    // Generations per engine call: one unless the engine pipelines, so boards are committed as they finish
+    private int batchSize() {
+        return Math.max(1, engine.maxInFlight());
+    }
+
+    public EvolutionRun evolveAsync(int steps) {
+        return start(new EvolutionRun(checkSteps(steps), null));
+    }
+
+    public EvolutionRun evolveAsync(int steps, Duration timeout) {
+        Objects.requireNonNull(timeout, "Timeout cannot be null");
+        return start(new EvolutionRun(checkSteps(steps), timeout));
+    }
+
+    private static int checkSteps(int steps) {
+        if (steps < 0) {
+            throw new IllegalArgumentException("Step count cannot be negative: " + steps);
+        }
+        return steps;
+    }
+
+    private EvolutionRun start(EvolutionRun run) {
+        executor.execute(() -> {
+            try {
+                while (run.getCompletedSteps() < run.getRequestedSteps() && !run.isStopRequested()) {
+                    var remaining = run.getRequestedSteps() - run.getCompletedSteps();
+                    run.stepsCompleted(advance(Math.min(remaining, batchSize()), run::isStopRequested));
+                }
+                finish(run);
+            } catch (CancellationException _) {
+                finish(run);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                run.completeExceptionally(e);
+            } catch (ExecutionException | TimeoutException | RuntimeException e) {
+                run.completeExceptionally(e);
+            } finally {
+                run.workerStopped(snapshot.generation());
+            }
+        });
+        return run;
+    }
+
+    private void finish(EvolutionRun run) {
+        if (run.getCompletedSteps() < run.getRequestedSteps() && run.isPastDeadline()) {
+            run.completeExceptionally(new TimeoutException("Deadline passed after %d of %d steps"
+                .formatted(run.getCompletedSteps(), run.getRequestedSteps())));
+        } else {
+            // No-op when the caller already cancelled
+            run.complete(snapshot.generation());
         }
     }
 
@@ -42,12 +159,48 @@ public class GameOfLife implements AutoCloseable {
         }
     }
     
+    public void addListener(GenerationListener listener) {
+        listeners.add(Objects.requireNonNull(listener, "Listener cannot be null"));
+    }
+
+    public void removeListener(GenerationListener listener) {
+        listeners.remove(listener);
+    }
+
+    public synchronized GenerationHistory enableHistory(int keyframeInterval, long byteBudget) {
+        if (history != null) {
+            listeners.remove(history);
+        }
+        history = new GenerationHistory(keyframeInterval, byteBudget);
+        history.record(snapshot.generation(), snapshot.grid(), null);
+        listeners.add(history);
+        return history;
+    }
+
+    public Optional<GenerationHistory> getHistory() {
+        return Optional.ofNullable(history);
+    }
+
+    public synchronized void rewindTo(int targetGeneration) {
+        if (history == null) {
+            throw new IllegalStateException("History is not enabled");
+        }
+        var grid = history.gridAt(targetGeneration);
+        history.truncateAfter(targetGeneration);
+        snapshot = new GenerationSnapshot(targetGeneration, grid);
+    }
+    
+    // Never blocks: returns the latest committed generation even while the next one is computing
+    public GenerationSnapshot getSnapshot() {
+        return snapshot;
+    }
+
     public Grid getCurrentGrid() {
-        return currentGrid.copy();
+        return snapshot.toGrid();
     }
     
     public int getGeneration() {
-        return generation;
+        return snapshot.generation();
     }
     
     @Override
@@ -1,9 +1,33 @@
 package com.example.gameoflife;
 
+import java.util.Locale;
+import java.util.Objects;
+
 @FunctionalInterface
 public interface GameRules {
     CellState nextState(CellState currentState, int liveNeighbors);
 
+    // The cells counted into liveNeighbors
+    default Neighborhood neighborhood() {
+        return Neighborhood.moore();
+    }
+
+    default GameRules withNeighborhood(Neighborhood neighborhood) {
+        Objects.requireNonNull(neighborhood, "Neighborhood cannot be null");
+        var base = this;
+        return new GameRules() {
+            @Override
+            public CellState nextState(CellState currentState, int liveNeighbors) {
+                return base.nextState(currentState, liveNeighbors);
+            }
+
+            @Override
+            public Neighborhood neighborhood() {
+                return neighborhood;
+            }
+        };
+    }
+
     static GameRules conway() {
         return (currentState, liveNeighbors) -> switch (currentState) {
             case CellState.Alive _ -> switch (liveNeighbors) {
@@ -26,4 +50,34 @@ public interface GameRules {
             };
         };
     }
+
+    // Accepts a preset name (conway, highlife, bosco) or life-like notation such as "B36/S23",
+    // optionally suffixed H (hexagonal) or V (von Neumann) as in "B2/S34H"
+    static GameRules parse(String rule) {
+        var normalized = rule.trim().toUpperCase(Locale.ROOT);
+        return switch (normalized) {
+            case "CONWAY", "LIFE" -> conway();
+            case "HIGHLIFE" -> highLife();
+            case "BOSCO" -> LargerThanLifeRules.bosco();
+            default -> lifeLike(normalized);
+        };
+    }
+
+    private static GameRules lifeLike(String notation) {
+        var matcher = java.util.regex.Pattern.compile("B([0-8]*)/S([0-8]*)([HV]?)").matcher(notation);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Unknown rule: " + notation);
+        }
+        var birth = matcher.group(1).chars().map(c -> 1 << (c - '0')).reduce(0, (a, b) -> a | b);
+        var survival = matcher.group(2).chars().map(c -> 1 << (c - '0')).reduce(0, (a, b) -> a | b);
+        GameRules rules = (currentState, liveNeighbors) -> switch (currentState) {
+            case CellState.Alive _ -> (survival & (1 << liveNeighbors)) != 0 ? currentState : CellState.DEAD;
+            case CellState.Dead _ -> (birth & (1 << liveNeighbors)) != 0 ? CellState.ALIVE : currentState;
+        };
+        return switch (matcher.group(3)) {
+            case "H" -> rules.withNeighborhood(Neighborhood.hexagonal());
+            case "V" -> rules.withNeighborhood(Neighborhood.vonNeumann());
+            default -> rules;
+        };
+    }
 }
@@ -0,0 +1,107 @@
+package com.example.gameoflife;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+public record GenerationDelta(int generation, long[] births, long[] deaths) {
+
+    public GenerationDelta {
+        births = births.clone();
+        deaths = deaths.clone();
+        Arrays.sort(births);
+        Arrays.sort(deaths);
+    }
+
+    public static GenerationDelta between(int generation, Grid before, Grid after) {
+        if (before.store() instanceof BitCellStore previous && after.store() instanceof BitCellStore current &&
+                before.getRows() == after.getRows() && before.getCols() == after.getCols()) {
+            return between(generation, previous, current, before.getRows());
+        }
+        var previous = before.getLiveCells();
+        var current = after.getLiveCells();
+        return new GenerationDelta(generation, packMissing(current, previous), packMissing(previous, current));
+    }
+
+    // Dense boards diff word by word and only touch the bits that flipped
+    private static GenerationDelta between(int generation, BitCellStore before, BitCellStore after, int rows) {
+        var births = LongStream.builder();
+        var deaths = LongStream.builder();
+        for (int row = 0; row < rows; row++) {
+            for (int w = 0; w < before.wordsPerRow(); w++) {
+                var old = before.word(row, w);
+                var changed = old ^ after.word(row, w);
+                while (changed != 0) {
+                    var bit = Long.numberOfTrailingZeros(changed);
+                    var packed = Cell.of(row, (w << 6) + bit).pack();
+                    if ((old & (1L << bit)) != 0) {
+                        deaths.add(packed);
+                    } else {
+                        births.add(packed);
+                    }
+                    changed &= changed - 1;
+                }
+            }
+        }
+        return new GenerationDelta(generation, births.build().toArray(), deaths.build().toArray());
+    }
+
+    // Cells present in source but absent from other, packed via Cell.pack()
+    private static long[] packMissing(Set<Cell> source, Set<Cell> other) {
+        return source.stream()
+            .filter(cell -> !other.contains(cell))
+            .mapToLong(Cell::pack)
+            .toArray();
+    }
+
+    public void applyTo(Grid grid) {
+        for (long packed : deaths) {
+            grid.setCellState(Cell.unpack(packed), CellState.DEAD);
+        }
+        for (long packed : births) {
+            grid.setCellState(Cell.unpack(packed), CellState.ALIVE);
+        }
+    }
+
+    public void revert(Grid grid) {
+        for (long packed : births) {
+            grid.setCellState(Cell.unpack(packed), CellState.DEAD);
+        }
+        for (long packed : deaths) {
+            grid.setCellState(Cell.unpack(packed), CellState.ALIVE);
+        }
+    }
+
+    public boolean isEmpty() {
+        return births.length == 0 && deaths.length == 0;
+    }
+
+    public int size() {
+        return births.length + deaths.length;
+    }
+
+    @Override
+    public long[] births() { return births.clone(); }
+
+    @Override
+    public long[] deaths() { return deaths.clone(); }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof GenerationDelta other &&
+            generation == other.generation &&
+            Arrays.equals(births, other.births) &&
+            Arrays.equals(deaths, other.deaths);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * generation + Arrays.hashCode(births)) + Arrays.hashCode(deaths);
+    }
+
+    @Override
+    public String toString() {
+        return "GenerationDelta[generation=%d, births=%d, deaths=%d]"
+            .formatted(generation, births.length, deaths.length);
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.gameoflife;
+
+public class GenerationHistory implements GenerationListener {
+    // Rough per-frame bookkeeping cost on top of the packed cell arrays
+    private static final long FRAME_OVERHEAD_BYTES = 64;
+
+    private final int keyframeInterval;
+    private final long byteBudget;
+
+    // Ring buffer of consecutive generations, oldest at head
+    private Frame[] frames = new Frame[16];
+    private int head;
+    private int size;
+    private long bytes;
+    private int lastKeyframe;
+
+    private int rows;
+    private int cols;
+    private BoundaryCondition boundary;
+
+    private record Frame(int generation, long[] keyframe, GenerationDelta delta, long bytes) {
+        boolean isKeyframe() { return keyframe != null; }
+    }
+
+    public GenerationHistory(int keyframeInterval, long byteBudget) {
+        if (keyframeInterval <= 0) {
+            throw new IllegalArgumentException("Keyframe interval must be positive: " + keyframeInterval);
+        }
+        if (byteBudget <= 0) {
+            throw new IllegalArgumentException("Byte budget must be positive: " + byteBudget);
+        }
+        this.keyframeInterval = keyframeInterval;
+        this.byteBudget = byteBudget;
+    }
+
+    @Override
+    public void onGeneration(GenerationDelta delta, Grid grid) {
+        record(delta.generation(), grid, delta);
+    }
+
+    public synchronized void record(int generation, Grid grid, GenerationDelta delta) {
+        if (size > 0 && generation != lastGeneration() + 1) {
+            throw new IllegalArgumentException(
+                "Expected generation %d but got %d".formatted(lastGeneration() + 1, generation));
+        }
+        rows = grid.getRows();
+        cols = grid.getCols();
+        boundary = grid.getBoundary();
+
+        var keyframe = size == 0 || delta == null || generation - lastKeyframe >= keyframeInterval;
+        long[] packed = keyframe ?
+            grid.getLiveCells().stream().mapToLong(Cell::pack).sorted().toArray() : null;
+        var frameBytes = FRAME_OVERHEAD_BYTES +
+            8L * ((packed == null ? 0 : packed.length) + (delta == null ? 0 : delta.size()));
+        if (keyframe) {
+            lastKeyframe = generation;
+        }
+        append(new Frame(generation, packed, delta, frameBytes));
+        evict();
+    }
+
+    private void append(Frame frame) {
+        if (size == frames.length) {
+            var grown = new Frame[frames.length * 2];
+            for (int i = 0; i < size; i++) {
+                grown[i] = frame(i);
+            }
+            frames = grown;
+            head = 0;
+        }
+        frames[(head + size) % frames.length] = frame;
+        size++;
+        bytes += frame.bytes();
+    }
+
+    // Drops whole keyframe segments from the oldest end so every retained frame stays reachable
+    private void evict() {
+        while (bytes > byteBudget) {
+            int next = 1;
+            while (next < size && !frame(next).isKeyframe()) {
+                next++;
+            }
+            if (next == size) {
+                return; // only the newest segment is left
+            }
+            for (int i = 0; i < next; i++) {
+                dropHead();
+            }
+        }
+    }
+
+    private void dropHead() {
+        bytes -= frames[head].bytes();
+        frames[head] = null;
+        head = (head + 1) % frames.length;
+        size--;
+    }
+
+    private Frame frame(int index) {
+        return frames[(head + index) % frames.length];
+    }
+
+    private int indexOf(int generation) {
+        if (!contains(generation)) {
+            throw new IllegalArgumentException(
+                "Generation %d is not retained (history covers %d-%d)"
+                    .formatted(generation, firstGeneration(), lastGeneration()));
+        }
+        return generation - frame(0).generation();
+    }
+
+    public synchronized boolean contains(int generation) {
+        return size > 0 && generation >= frame(0).generation() && generation <= lastGeneration();
+    }
+
+    public synchronized int firstGeneration() {
+        return size == 0 ? -1 : frame(0).generation();
+    }
+
+    public synchronized int lastGeneration() {
+        return size == 0 ? -1 : frame(size - 1).generation();
+    }
+
+    public synchronized long sizeInBytes() {
+        return bytes;
+    }
+
+    public synchronized Grid gridAt(int generation) {
+        var index = indexOf(generation);
+        var keyIndex = index;
+        while (!frame(keyIndex).isKeyframe()) {
+            keyIndex--;
+        }
+        var grid = new Grid(rows, cols, boundary);
+        for (long packed : frame(keyIndex).keyframe()) {
+            grid.setCellState(Cell.unpack(packed), CellState.ALIVE);
+        }
+        for (int i = keyIndex + 1; i <= index; i++) {
+            frame(i).delta().applyTo(grid);
+        }
+        return grid;
+    }
+
+    // Keyframes keep their incoming delta too, so stepping never has to rebuild a grid
+    private GenerationDelta deltaInto(int generation) {
+        var delta = frame(indexOf(generation)).delta();
+        return delta != null ? delta :
+            GenerationDelta.between(generation, gridAt(generation - 1), gridAt(generation));
+    }
+
+    // Drops everything after the given generation, e.g. when a game is rewound and re-run
+    public synchronized void truncateAfter(int generation) {
+        indexOf(generation);
+        while (lastGeneration() > generation) {
+            var tail = (head + size - 1) % frames.length;
+            bytes -= frames[tail].bytes();
+            frames[tail] = null;
+            size--;
+        }
+        for (int i = size - 1; i >= 0; i--) {
+            if (frame(i).isKeyframe()) {
+                lastKeyframe = frame(i).generation();
+                break;
+            }
+        }
+    }
+
+    public Cursor cursor(int generation) {
+        return new Cursor(generation);
+    }
+
+    public class Cursor {
+        private final Grid grid;
+        private int generation;
+
+        private Cursor(int generation) {
+            this.grid = gridAt(generation);
+            this.generation = generation;
+        }
+
+        public boolean stepBack() {
+            synchronized (GenerationHistory.this) {
+                if (!contains(generation - 1)) {
+                    return false;
+                }
+                deltaInto(generation).revert(grid);
+                generation--;
+                return true;
+            }
+        }
+
+        public boolean stepForward() {
+            synchronized (GenerationHistory.this) {
+                if (!contains(generation + 1)) {
+                    return false;
+                }
+                deltaInto(generation + 1).applyTo(grid);
+                generation++;
+                return true;
+            }
+        }
+
+        public int getGeneration() {
+            return generation;
+        }
+
+        public Grid getGrid() {
+            return grid.copy();
+        }
+    }
+}
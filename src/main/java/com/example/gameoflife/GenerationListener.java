@@ -0,0 +1,7 @@
+package com.example.gameoflife;
+
+@FunctionalInterface
+public interface GenerationListener {
+    // Called on the evolving thread after each generation; the grid must not be modified
+    void onGeneration(GenerationDelta delta, Grid grid);
+}
@@ -0,0 +1,59 @@
+package com.example.gameoflife;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+// One committed generation, published by GameOfLife through a volatile reference. The board is
+// never modified after publication, so any thread may query it without locking; toGrid() hands
+// out a mutable copy.
+public final class GenerationSnapshot {
+    private final int generation;
+    private final Grid grid;
+
+    GenerationSnapshot(int generation, Grid grid) {
+        this.generation = generation;
+        this.grid = grid;
+    }
+
+    public int generation() {
+        return generation;
+    }
+
+    public int getRows() { return grid.getRows(); }
+    public int getCols() { return grid.getCols(); }
+    public BoundaryCondition getBoundary() { return grid.getBoundary(); }
+
+    public CellState getCellState(Cell cell) {
+        return grid.getCellState(cell);
+    }
+
+    public long population() {
+        return grid.population();
+    }
+
+    public long populationIn(int top, int left, int height, int width) {
+        return grid.populationIn(top, left, height, width);
+    }
+
+    public Stream<Cell> liveCellsIn(int top, int left, int height, int width) {
+        return grid.liveCellsIn(top, left, height, width);
+    }
+
+    public Set<Cell> getLiveCells() {
+        return grid.getLiveCells();
+    }
+
+    public Grid toGrid() {
+        return grid.copy();
+    }
+
+    // Shared, read-only board for package code that only reads it
+    Grid grid() {
+        return grid;
+    }
+
+    @Override
+    public String toString() {
+        return grid.toString();
+    }
+}
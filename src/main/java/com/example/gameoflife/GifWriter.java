@@ -0,0 +1,165 @@
+package com.example.gameoflife;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Streaming GIF89a encoder for two-color frames with a specialized LZW coder
+final class GifWriter implements AnimationWriter {
+    private static final int MIN_CODE_SIZE = 2;  // smallest the format allows, for a 2-entry palette
+    private static final int CLEAR = 1 << MIN_CODE_SIZE;
+    private static final int END = CLEAR + 1;
+    private static final int MAX_CODES = 4096;
+
+    private final OutputStream out;
+    private final int deadRgb;
+    private final int aliveRgb;
+
+    // With a two-symbol alphabet the dictionary is a dense table: child code of (prefix, pixel)
+    private final int[] children = new int[MAX_CODES * 2];
+    private final byte[] block = new byte[255];
+    private int blockLength;
+    private long bitBuffer;
+    private int bitCount;
+
+    GifWriter(OutputStream out, int deadRgb, int aliveRgb) {
+        this.out = out;
+        this.deadRgb = deadRgb;
+        this.aliveRgb = aliveRgb;
+    }
+
+    @Override
+    public void writeHeader(int width, int height) throws IOException {
+        out.write("GIF89a".getBytes(StandardCharsets.US_ASCII));
+        writeShort(width);
+        writeShort(height);
+        out.write(0x80);  // global color table of 2 entries
+        out.write(0);     // background index
+        out.write(0);     // square pixels
+        writeRgb(deadRgb);
+        writeRgb(aliveRgb);
+        // Netscape application extension: loop forever
+        out.write(new byte[] {0x21, (byte) 0xFF, 0x0B});
+        out.write("NETSCAPE2.0".getBytes(StandardCharsets.US_ASCII));
+        out.write(new byte[] {0x03, 0x01, 0x00, 0x00, 0x00});
+    }
+
+    @Override
+    public void writeFrame(int left, int top, int width, int height, RowSource rows, int delayMillis)
+            throws IOException {
+        // Graphic control extension: keep the previous frame under this one, no transparency
+        out.write(new byte[] {0x21, (byte) 0xF9, 0x04, 0x04});
+        writeShort(Math.min(0xFFFF, (delayMillis + 5) / 10));
+        out.write(0);
+        out.write(0);
+
+        out.write(0x2C);
+        writeShort(left);
+        writeShort(top);
+        writeShort(width);
+        writeShort(height);
+        out.write(0);  // no local color table, not interlaced
+
+        out.write(MIN_CODE_SIZE);
+        compress(width, height, rows);
+        out.write(0);
+    }
+
+    private void compress(int width, int height, RowSource rows) throws IOException {
+        var indices = new byte[width];
+        var codeSize = MIN_CODE_SIZE + 1;
+        var nextCode = END + 1;
+        Arrays.fill(children, 0);
+        writeCode(CLEAR, codeSize);
+
+        var prefix = -1;
+        for (int y = 0; y < height; y++) {
+            rows.fill(y, indices);
+            for (int x = 0; x < width; x++) {
+                var pixel = indices[x];
+                if (prefix < 0) {
+                    prefix = pixel;
+                    continue;
+                }
+                var slot = (prefix << 1) | pixel;
+                var child = children[slot];
+                if (child != 0) {
+                    prefix = child;
+                    continue;
+                }
+                writeCode(prefix, codeSize);
+                if (nextCode < MAX_CODES) {
+                    children[slot] = nextCode;
+                    // Decoders widen codes once the code just assigned no longer fits
+                    if (nextCode == 1 << codeSize && codeSize < 12) {
+                        codeSize++;
+                    }
+                    nextCode++;
+                } else {
+                    writeCode(CLEAR, codeSize);
+                    Arrays.fill(children, 0);
+                    codeSize = MIN_CODE_SIZE + 1;
+                    nextCode = END + 1;
+                }
+                prefix = pixel;
+            }
+        }
+        if (prefix >= 0) {
+            writeCode(prefix, codeSize);
+            // The decoder adds one more entry on reading that code and may widen before END
+            if (nextCode == 1 << codeSize && codeSize < 12) {
+                codeSize++;
+            }
+        }
+        writeCode(END, codeSize);
+        if (bitCount > 0) {
+            writeByte((int) bitBuffer);
+            bitBuffer = 0;
+            bitCount = 0;
+        }
+        flushBlock();
+    }
+
+    private void writeCode(int code, int size) throws IOException {
+        bitBuffer |= (long) code << bitCount;
+        bitCount += size;
+        while (bitCount >= 8) {
+            writeByte((int) bitBuffer);
+            bitBuffer >>>= 8;
+            bitCount -= 8;
+        }
+    }
+
+    private void writeByte(int value) throws IOException {
+        block[blockLength++] = (byte) value;
+        if (blockLength == block.length) {
+            flushBlock();
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        if (blockLength > 0) {
+            out.write(blockLength);
+            out.write(block, 0, blockLength);
+            blockLength = 0;
+        }
+    }
+
+    @Override
+    public void finish(int frameCount) throws IOException {
+        out.write(0x3B);
+        out.flush();
+    }
+
+    private void writeShort(int value) throws IOException {
+        out.write(value & 0xFF);
+        out.write((value >>> 8) & 0xFF);
+    }
+
+    private void writeRgb(int rgb) throws IOException {
+        out.write((rgb >>> 16) & 0xFF);
+        out.write((rgb >>> 8) & 0xFF);
+        out.write(rgb & 0xFF);
+    }
+}
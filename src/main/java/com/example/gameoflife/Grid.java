@@ -2,28 +2,84 @@ package com.example.gameoflife;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.function.BooleanSupplier;
 import java.util.stream.*;
 
 public class Grid {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
     private final int rows;
     private final int cols;
-    private final Map<Cell, CellState> cells;
+    private final CellStore store;
     private final BoundaryCondition boundary;
+    private final Topology topology;
     
     public Grid(int rows, int cols) {
         this(rows, cols, new BoundaryCondition.Fixed());
     }
     
     public Grid(int rows, int cols, BoundaryCondition boundary) {
+        this(rows, cols, boundary, StorageMode.defaultFor(boundary, rows, cols));
+    }
+    
+    public Grid(int rows, int cols, BoundaryCondition boundary, StorageMode storage) {
+        this(rows, cols, boundary, storage, SpillPolicy.defaults());
+    }
+    
+    // Tiled storage holding at most the policy's memory budget of tiles in memory
+    public Grid(int rows, int cols, BoundaryCondition boundary, SpillPolicy spill) {
+        this(rows, cols, boundary, StorageMode.TILED, Objects.requireNonNull(spill, "Spill policy cannot be null"));
+    }
+    
+    private Grid(int rows, int cols, BoundaryCondition boundary, StorageMode storage, SpillPolicy spill) {
         if (rows <= 0 || cols <= 0) {
             throw new IllegalArgumentException(
                 "Grid dimensions must be positive: %dx%d".formatted(rows, cols)
             );
         }
+        Objects.requireNonNull(boundary, "Boundary condition cannot be null");
+        if (storage == StorageMode.DENSE && boundary instanceof BoundaryCondition.Infinite) {
+            throw new IllegalArgumentException("Dense storage requires a bounded boundary condition");
+        }
         this.rows = rows;
         this.cols = cols;
-        this.cells = new ConcurrentHashMap<>();
-        this.boundary = Objects.requireNonNull(boundary, "Boundary condition cannot be null");
+        this.store = storage == StorageMode.TILED ? new TiledCellStore(spill) : CellStore.create(storage, rows, cols);
+        this.boundary = boundary;
+        this.topology = boundary.topology(rows, cols);
+    }
+    
+    private Grid(int rows, int cols, BoundaryCondition boundary, Topology topology, CellStore store) {
+        this.rows = rows;
+        this.cols = cols;
+        this.store = store;
+        this.boundary = boundary;
+        this.topology = topology;
+    }
+    
+    // Wraps a finished bitboard (row-major, one long per 64 columns) without copying
+    static Grid fromWords(int rows, int cols, BoundaryCondition boundary, Topology topology, long[] words) {
+        return new Grid(rows, cols, boundary, topology, new BitCellStore(rows, cols, words));
+    }
+    
+    // Bitboard view for engines: the live backing array when dense, an exported copy otherwise
+    long[] denseWords() {
+        if (store instanceof BitCellStore bits) {
+            return bits.words();
+        }
+        var wordsPerRow = (cols + 63) >>> 6;
+        var words = new long[rows * wordsPerRow];
+        for (int row = 0; row < rows; row++) {
+            System.arraycopy(store.exportRow(row, cols), 0, words, row * wordsPerRow, wordsPerRow);
+        }
+        return words;
+    }
+    
+    private Grid(Grid source) {
+        this.rows = source.rows;
+        this.cols = source.cols;
+        this.store = source.store.copy();
+        this.boundary = source.boundary;
+        this.topology = source.topology;
     }
     
     public Grid(String pattern) {
@@ -34,96 +90,275 @@ public class Grid {
         var lines = pattern.trim().lines().toList();
         this.rows = lines.size();
         this.cols = lines.isEmpty() ? 0 : lines.getFirst().length();
-        this.cells = new ConcurrentHashMap<>();
         this.boundary = Objects.requireNonNull(boundary, "Boundary condition cannot be null");
+        this.store = CellStore.create(StorageMode.defaultFor(boundary, rows, cols), rows, cols);
+        this.topology = boundary.topology(rows, cols);
         
         IntStream.range(0, rows).forEach(row -> {
             var line = lines.get(row);
             IntStream.range(0, Math.min(cols, line.length())).forEach(col -> {
-                var state = CellState.fromChar(line.charAt(col));
-                if (state.isAlive()) {
-                    cells.put(Cell.of(row, col), state);
+                if (CellState.fromChar(line.charAt(col)).isAlive()) {
+                    store.set(row, col, true);
                 }
             });
         });
     }
     
     public void setCellState(Cell cell, CellState state) {
-        boundary.wrap(cell, rows, cols).ifPresent(wrapped -> {
-            if (state.isAlive()) {
-                cells.put(wrapped, state);
-            } else {
-                cells.remove(wrapped);
-            }
-        });
+        setAlive(cell.row(), cell.col(), state.isAlive());
     }
     
     public CellState getCellState(Cell cell) {
-        return boundary.wrap(cell, rows, cols)
-            .map(wrapped -> cells.getOrDefault(wrapped, CellState.DEAD))
-            .orElse(CellState.DEAD);
+        return CellState.fromBoolean(isAlive(cell.row(), cell.col()));
+    }
+    
+    // Allocation-free primitives for bulk callers; coordinates wrap through the topology
+    boolean isAlive(int row, int col) {
+        var r = topology.wrapRow(row);
+        var c = topology.wrapCol(col);
+        return r != Topology.OUTSIDE && c != Topology.OUTSIDE && store.get(r, c);
+    }
+    
+    void setAlive(int row, int col, boolean alive) {
+        var r = topology.wrapRow(row);
+        var c = topology.wrapCol(col);
+        if (r != Topology.OUTSIDE && c != Topology.OUTSIDE) {
+            store.set(r, c, alive);
+        }
+    }
+    
+    public void fillRegion(int top, int left, int height, int width, CellState state) {
+        var region = clip(top, left, height, width);
+        if (region != null) {
+            store.fill(region[0], region[1], region[2], region[3], state.isAlive());
+        }
+    }
+    
+    // Regions are clipped to bounded boards rather than wrapped; null when nothing is left
+    private int[] clip(int top, int left, int height, int width) {
+        if (topology.isBounded()) {
+            var bottom = Math.min(rows, top + Math.max(0, height));
+            var right = Math.min(cols, left + Math.max(0, width));
+            top = Math.max(0, top);
+            left = Math.max(0, left);
+            height = bottom - top;
+            width = right - left;
+        }
+        return height > 0 && width > 0 ? new int[] {top, left, height, width} : null;
+    }
+    
+    public void clearRegion(int top, int left, int height, int width) {
+        fillRegion(top, left, height, width, CellState.DEAD);
+    }
+    
+    // Row bitmaps cover columns 0..cols-1, bit (col % 64) of word (col / 64)
+    public long[] exportRow(int row) {
+        return store.exportRow(Objects.checkIndex(row, rows), cols);
+    }
+    
+    public void importRow(int row, long[] bits) {
+        store.importRow(Objects.checkIndex(row, rows), bits, cols);
+    }
+    
+    public BitSet exportRowBits(int row) {
+        return BitSet.valueOf(exportRow(row));
+    }
+    
+    public void importRow(int row, BitSet bits) {
+        importRow(row, bits.toLongArray());
+    }
+    
+    public void randomFill(double density, long seed) {
+        if (density < 0.0 || density > 1.0) {
+            throw new IllegalArgumentException("Density must be between 0 and 1: " + density);
+        }
+        var random = new SplittableRandom(seed);
+        // Density quantized to 16 bits; each word needs at most 16 random longs instead of 64
+        var threshold = (int) Math.round(density * (1 << 16));
+        var row = new long[(cols + 63) >>> 6];
+        for (int r = 0; r < rows; r++) {
+            for (int w = 0; w < row.length; w++) {
+                row[w] = randomWord(random, threshold);
+            }
+            importRow(r, row);
+        }
+    }
+    
+    private static long randomWord(SplittableRandom random, int threshold) {
+        if (threshold >= 1 << 16) {
+            return -1L;
+        }
+        long word = 0;
+        // Each step mixes in one binary digit of the density, least significant first
+        for (int bit = Integer.numberOfTrailingZeros(threshold | (1 << 16)); bit < 16; bit++) {
+            var next = random.nextLong();
+            word = ((threshold >>> bit) & 1) != 0 ? next | word : next & word;
+        }
+        return word;
+    }
+    
+    // Viewport queries: cost follows the region (or the live cells, if fewer), not the board
+    public Stream<Cell> liveCellsIn(int top, int left, int height, int width) {
+        var region = clip(top, left, height, width);
+        return region == null ? Stream.empty() : store.liveCellsIn(region[0], region[1], region[2], region[3]);
+    }
+    
+    public long populationIn(int top, int left, int height, int width) {
+        var region = clip(top, left, height, width);
+        return region == null ? 0 : store.populationIn(region[0], region[1], region[2], region[3]);
+    }
+    
+    public long population() {
+        return store.population();
+    }
+    
+    StorageMode getStorageMode() {
+        return store.mode();
+    }
+    
+    CellStore store() {
+        return store;
+    }
+    
+    // Same size, boundary and storage configuration, no live cells
+    Grid emptyCopy() {
+        return new Grid(rows, cols, boundary, topology, store.empty());
+    }
+    
+    public Optional<SpillStats> spillStats() {
+        return store instanceof TiledCellStore tiled ? Optional.of(tiled.stats()) : Optional.empty();
     }
     
     public List<Cell> getNeighbors(Cell cell) {
-        return Direction.getAllNeighbors(cell).stream()
-            .map(neighbor -> boundary.wrap(neighbor, rows, cols))
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .toList();
+        if (topology.isInterior(cell.row(), cell.col())) {
+            return Direction.getAllNeighbors(cell);
+        }
+        var neighbors = new ArrayList<Cell>(DIRECTIONS.length);
+        for (var direction : DIRECTIONS) {
+            var row = topology.wrapRow(cell.row() + direction.dRow());
+            var col = topology.wrapCol(cell.col() + direction.dCol());
+            if (row != Topology.OUTSIDE && col != Topology.OUTSIDE) {
+                neighbors.add(Cell.of(row, col));
+            }
+        }
+        return neighbors;
+    }
+    
+    public List<Cell> getNeighbors(Cell cell, Neighborhood neighborhood) {
+        var rowOffsets = neighborhood.rowOffsets();
+        var colOffsets = neighborhood.colOffsets();
+        var neighbors = new ArrayList<Cell>(rowOffsets.length);
+        for (int k = 0; k < rowOffsets.length; k++) {
+            var row = topology.wrapRow(cell.row() + rowOffsets[k]);
+            var col = topology.wrapCol(cell.col() + colOffsets[k]);
+            if (row != Topology.OUTSIDE && col != Topology.OUTSIDE) {
+                neighbors.add(Cell.of(row, col));
+            }
+        }
+        return neighbors;
     }
     
     public int countLiveNeighbors(Cell cell) {
-        return (int) getNeighbors(cell).stream()
-            .map(this::getCellState)
-            .filter(CellState::isAlive)
-            .count();
+        return countLiveNeighbors(cell, Neighborhood.moore());
+    }
+    
+    public int countLiveNeighbors(Cell cell, Neighborhood neighborhood) {
+        var rowOffsets = neighborhood.rowOffsets();
+        var colOffsets = neighborhood.colOffsets();
+        int count = 0;
+        // Interior fast path: no wrapping, no intermediate list
+        if (neighborhood.radius() <= topology.getHalo() && topology.isInterior(cell.row(), cell.col())) {
+            for (int k = 0; k < rowOffsets.length; k++) {
+                if (store.get(cell.row() + rowOffsets[k], cell.col() + colOffsets[k])) {
+                    count++;
+                }
+            }
+            return count;
+        }
+        for (int k = 0; k < rowOffsets.length; k++) {
+            var row = topology.wrapRow(cell.row() + rowOffsets[k]);
+            var col = topology.wrapCol(cell.col() + colOffsets[k]);
+            if (row != Topology.OUTSIDE && col != Topology.OUTSIDE && store.get(row, col)) {
+                count++;
+            }
+        }
+        return count;
     }
     
     public Set<Cell> getLiveCells() {
-        return new HashSet<>(cells.keySet());
+        var live = new HashSet<Cell>();
+        store.forEachLive((row, col) -> live.add(Cell.of(row, col)));
+        return live;
     }
     
     public Grid evolveWith(GameRules rules, Executor executor) throws InterruptedException, ExecutionException, TimeoutException {
-        var nextGrid = new Grid(rows, cols, boundary);
+        return evolveWith(rules, executor, () -> false);
+    }
+    
+    // Cells are skipped once a stop is requested; an incomplete step throws CancellationException
+    public Grid evolveWith(GameRules rules, Executor executor, BooleanSupplier stopRequested)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        if (store instanceof TiledCellStore) {
+            return TiledEvolution.evolve(this, rules, executor, stopRequested);
+        }
+        if (rules instanceof LargerThanLifeRules rangeRules) {
+            return LargerThanLife.evolve(this, rangeRules, executor, stopRequested);
+        }
+        var nextGrid = emptyCopy();
+        var neighborhood = rules.neighborhood();
+        var rowOffsets = neighborhood.rowOffsets();
+        var colOffsets = neighborhood.colOffsets();
 
         // Use a Set to automatically handle duplicates when collecting cells to evaluate
         Set<Cell> cellsToEvaluate = new HashSet<>();
 
-        // Add all live cells and their neighbors (duplicates are automatically handled by Set)
-        for (Cell liveCell : cells.keySet()) {
-            cellsToEvaluate.add(liveCell);
-            cellsToEvaluate.addAll(getNeighbors(liveCell));
-        }
+        // Add all live cells and every cell that counts them; offsets are subtracted so
+        // asymmetric neighborhoods find the right cells
+        store.forEachLive((liveRow, liveCol) -> {
+            cellsToEvaluate.add(Cell.of(liveRow, liveCol));
+            for (int k = 0; k < rowOffsets.length; k++) {
+                var row = topology.wrapRow(liveRow - rowOffsets[k]);
+                var col = topology.wrapCol(liveCol - colOffsets[k]);
+                if (row != Topology.OUTSIDE && col != Topology.OUTSIDE) {
+                    cellsToEvaluate.add(Cell.of(row, col));
+                }
+            }
+        });
 
         var futures = cellsToEvaluate.stream()
             .map(cell -> CompletableFuture.supplyAsync(() -> {
+                if (stopRequested.getAsBoolean()) {
+                    return null;
+                }
                 var currentState = getCellState(cell);
-                var liveNeighbors = countLiveNeighbors(cell);
+                var liveNeighbors = countLiveNeighbors(cell, neighborhood);
                 var nextState = rules.nextState(currentState, liveNeighbors);
                 return Map.entry(cell, nextState);
             }, executor))
             .toList();
 
-        // Add timeout to prevent indefinite blocking
-        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
-            .get(5, TimeUnit.SECONDS);
+        // No wall-clock limit here: callers bound a step through stopRequested instead
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
 
-        futures.stream()
-            .map(CompletableFuture::join)
-            .forEach(entry -> nextGrid.setCellState(entry.getKey(), entry.getValue()));
+        for (var future : futures) {
+            var entry = future.join();
+            if (entry == null) {
+                throw new CancellationException("Step abandoned before all cells were evaluated");
+            }
+            nextGrid.setCellState(entry.getKey(), entry.getValue());
+        }
 
         return nextGrid;
     }
     
     public Grid copy() {
-        var newGrid = new Grid(rows, cols, boundary);
-        cells.forEach(newGrid::setCellState);
-        return newGrid;
+        return new Grid(this);
     }
     
     public int getRows() { return rows; }
     public int getCols() { return cols; }
     public BoundaryCondition getBoundary() { return boundary; }
+    public Topology getTopology() { return topology; }
     
     @Override
     public String toString() {
@@ -131,7 +366,7 @@ public class Grid {
         var sb = new StringBuilder(rows * (cols + 1));
         IntStream.range(0, rows).forEach(row -> {
             IntStream.range(0, cols)
-                .mapToObj(col -> getCellState(Cell.of(row, col)).symbol())
+                .mapToObj(col -> CellState.fromBoolean(store.get(row, col)).symbol())
                 .forEach(sb::append);
             sb.append('\n');
         });
@@ -143,12 +378,27 @@ public class Grid {
         return obj instanceof Grid other &&
             rows == other.rows &&
             cols == other.cols &&
-            cells.equals(other.cells) &&
-            boundary.equals(other.boundary);
+            boundary.equals(other.boundary) &&
+            sameCells(other);
+    }
+    
+    private boolean sameCells(Grid other) {
+        if (store instanceof BitCellStore bits && other.store instanceof BitCellStore otherBits) {
+            return bits.sameCells(otherBits);
+        }
+        if (store.population() != other.store.population()) {
+            return false;
+        }
+        var same = new boolean[] {true};
+        store.forEachLive((row, col) -> same[0] &= other.store.get(row, col));
+        return same[0];
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(rows, cols, cells, boundary);
+        // Same value as the hash of the live cell set, whichever backend holds it
+        var cellHash = new int[1];
+        store.forEachLive((row, col) -> cellHash[0] += Cell.of(row, col).hashCode());
+        return Objects.hash(rows, cols, boundary) * 31 + cellHash[0];
     }
 }
@@ -0,0 +1,205 @@
+package com.example.gameoflife;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+// Bitboard engine that puts still and period-2 tiles to sleep on bounded boards.
+// A tile is tileRows rows by one 64-column word; it is recomputed only while its
+// 3x3 tile neighborhood keeps changing.
+public final class HibernatingEngine implements EvolutionEngine {
+    public static final int DEFAULT_TILE_ROWS = 32;
+
+    private final int tileRows;
+
+    // State carried from the previous step; only valid while we are fed our own output, unedited.
+    // Returned grids are mutable, so lastWords and previousWords are private copies.
+    private Grid lastOutput;
+    private GameRules lastRules;
+    private long[] lastWords;       // generation t, as we returned it
+    private long[] previousWords;   // generation t-1
+    private boolean[] changedSinceLast;      // tile(t) != tile(t-1)
+    private boolean[] changedSinceTwoAgo;    // tile(t) != tile(t-2)
+    private int[][] tileNeighbors;
+
+    private final AtomicInteger computedTiles = new AtomicInteger();
+    private final AtomicInteger sleepingTiles = new AtomicInteger();
+
+    public HibernatingEngine() {
+        this(DEFAULT_TILE_ROWS);
+    }
+
+    public HibernatingEngine(int tileRows) {
+        if (tileRows <= 0) {
+            throw new IllegalArgumentException("Tile rows must be positive: " + tileRows);
+        }
+        this.tileRows = tileRows;
+    }
+
+    @Override
+    public Grid step(Grid current, GameRules rules, Executor executor)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return step(current, rules, executor, () -> false);
+    }
+
+    // An abandoned step leaves the carried state untouched, so the next call resumes normally
+    @Override
+    public synchronized Grid step(Grid current, GameRules rules, Executor executor, BooleanSupplier stopRequested)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        if (!current.getTopology().isBounded() || !BitKernel.supports(rules) ||
+                current.getStorageMode() == StorageMode.TILED) {
+            reset();
+            return current.evolveWith(rules, executor, stopRequested);
+        }
+        var rows = current.getRows();
+        var cols = current.getCols();
+        var topology = current.getTopology();
+        var words = current.denseWords();
+        var view = new BitKernel.Rows(words, cols, topology);
+        var tileCols = view.wordsPerRow();
+        var tileRowCount = (rows + tileRows - 1) / tileRows;
+
+        var resumed = current == lastOutput && rules == lastRules && Arrays.equals(words, lastWords);
+        if (!resumed) {
+            reset();
+            tileNeighbors = neighborTiles(topology, rows, cols, tileRowCount, tileCols);
+        }
+        var birth = BitKernel.birthMask(rules);
+        var survival = BitKernel.survivalMask(rules);
+
+        var next = new long[words.length];
+        var tiles = tileRowCount * tileCols;
+        var nextChangedSinceLast = new boolean[tiles];
+        var nextChangedSinceTwoAgo = new boolean[tiles];
+        computedTiles.set(0);
+        sleepingTiles.set(0);
+
+        var abandoned = new AtomicBoolean();
+        var bands = Math.max(1, Math.min(tileRowCount, Runtime.getRuntime().availableProcessors() * 2));
+        var futures = new ArrayList<CompletableFuture<Void>>(bands);
+        for (int band = 0; band < bands; band++) {
+            var from = tileRowCount * band / bands;
+            var to = tileRowCount * (band + 1) / bands;
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int tileRow = from; tileRow < to; tileRow++) {
+                    if (stopRequested.getAsBoolean()) {
+                        abandoned.set(true);
+                        return;
+                    }
+                    for (int w = 0; w < tileCols; w++) {
+                        var tile = tileRow * tileCols + w;
+                        stepTile(tile, tileRow, w, rows, topology, view, words, next, birth, survival);
+                        nextChangedSinceLast[tile] = differs(words, next, tileRow, w, rows, tileCols);
+                        nextChangedSinceTwoAgo[tile] = previousWords == null ||
+                            differs(previousWords, next, tileRow, w, rows, tileCols);
+                    }
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+        if (abandoned.get()) {
+            throw new CancellationException("Step abandoned before all tiles were computed");
+        }
+
+        changedSinceTwoAgo = previousWords == null ? null : nextChangedSinceTwoAgo;
+        changedSinceLast = nextChangedSinceLast;
+        previousWords = resumed ? lastWords : words.clone();
+        lastWords = next.clone();
+        lastRules = rules;
+        lastOutput = Grid.fromWords(rows, cols, current.getBoundary(), topology, next);
+        return lastOutput;
+    }
+
+    private void stepTile(int tile, int tileRow, int w, int rows, Topology topology,
+                          BitKernel.Rows view, long[] words, long[] next, int birth, int survival) {
+        var firstRow = tileRow * tileRows;
+        var lastRow = Math.min(rows, firstRow + tileRows);
+        var wordsPerRow = view.wordsPerRow();
+        if (changedSinceLast != null && !anyChanged(changedSinceLast, tile)) {
+            // Neighborhood identical to last generation: so is the result
+            copyTile(words, next, firstRow, lastRow, w, wordsPerRow);
+            sleepingTiles.incrementAndGet();
+        } else if (changedSinceTwoAgo != null && !anyChanged(changedSinceTwoAgo, tile)) {
+            // Neighborhood repeats with period 2: replay the generation before
+            copyTile(previousWords, next, firstRow, lastRow, w, wordsPerRow);
+            sleepingTiles.incrementAndGet();
+        } else {
+            for (int row = firstRow; row < lastRow; row++) {
+                next[row * wordsPerRow + w] = view.step(
+                    topology.wrapRow(row - 1), row, topology.wrapRow(row + 1), w, birth, survival);
+            }
+            computedTiles.incrementAndGet();
+        }
+    }
+
+    private boolean anyChanged(boolean[] changed, int tile) {
+        for (int neighbor : tileNeighbors[tile]) {
+            if (changed[neighbor]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void copyTile(long[] source, long[] target, int firstRow, int lastRow, int w, int wordsPerRow) {
+        for (int row = firstRow; row < lastRow; row++) {
+            target[row * wordsPerRow + w] = source[row * wordsPerRow + w];
+        }
+    }
+
+    private boolean differs(long[] a, long[] b, int tileRow, int w, int rows, int wordsPerRow) {
+        for (int row = tileRow * tileRows; row < Math.min(rows, (tileRow + 1) * tileRows); row++) {
+            if (a[row * wordsPerRow + w] != b[row * wordsPerRow + w]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Tiles holding any cell in a tile's one-cell halo, resolved through the topology
+    private int[][] neighborTiles(Topology topology, int rows, int cols, int tileRowCount, int tileCols) {
+        var neighbors = new int[tileRowCount * tileCols][];
+        for (int tileRow = 0; tileRow < tileRowCount; tileRow++) {
+            var haloRows = new int[] {
+                topology.wrapRow(tileRow * tileRows - 1), tileRow * tileRows,
+                topology.wrapRow(Math.min(rows, (tileRow + 1) * tileRows))
+            };
+            for (int w = 0; w < tileCols; w++) {
+                var haloCols = new int[] {
+                    topology.wrapCol(w * 64 - 1), w * 64, topology.wrapCol(Math.min(cols, (w + 1) * 64))
+                };
+                var set = new java.util.TreeSet<Integer>();
+                for (int row : haloRows) {
+                    for (int col : haloCols) {
+                        if (row != Topology.OUTSIDE && col != Topology.OUTSIDE) {
+                            set.add((row / tileRows) * tileCols + (col >>> 6));
+                        }
+                    }
+                }
+                neighbors[tileRow * tileCols + w] = set.stream().mapToInt(Integer::intValue).toArray();
+            }
+        }
+        return neighbors;
+    }
+
+    private void reset() {
+        lastOutput = null;
+        lastRules = null;
+        lastWords = null;
+        previousWords = null;
+        changedSinceLast = null;
+        changedSinceTwoAgo = null;
+        tileNeighbors = null;
+    }
+
+    public int getComputedTiles() {
+        return computedTiles.get();
+    }
+
+    public int getSleepingTiles() {
+        return sleepingTiles.get();
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.gameoflife;
+
+import java.util.ArrayList;
+import java.util.concurrent.*;
+import java.util.function.BooleanSupplier;
+
+// Range-r evolution using rolling column sums: O(1) neighbor counting per cell for any radius
+final class LargerThanLife {
+    private static final int MIN_BAND_ROWS = 32;
+
+    private LargerThanLife() {}
+
+    static Grid evolve(Grid grid, LargerThanLifeRules rules, Executor executor, BooleanSupplier stopRequested)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        var topology = grid.getTopology();
+        if (!topology.isBounded()) {
+            throw new IllegalArgumentException("Larger than Life requires a Fixed or Toroidal boundary");
+        }
+        var rows = grid.getRows();
+        var source = new long[rows][];
+        for (int row = 0; row < rows; row++) {
+            source[row] = grid.exportRow(row);
+        }
+        var target = new long[rows][];
+
+        var bands = Math.max(1, Math.min(rows / MIN_BAND_ROWS, Runtime.getRuntime().availableProcessors() * 4));
+        var futures = new ArrayList<CompletableFuture<Void>>(bands);
+        for (int band = 0; band < bands; band++) {
+            var from = (int) ((long) rows * band / bands);
+            var to = (int) ((long) rows * (band + 1) / bands);
+            futures.add(CompletableFuture.runAsync(
+                () -> evolveBand(grid, rules, source, target, from, to, stopRequested), executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+        for (var row : target) {
+            if (row == null) {
+                throw new CancellationException("Step abandoned before all rows were computed");
+            }
+        }
+
+        var next = grid.emptyCopy();
+        for (int row = 0; row < rows; row++) {
+            next.importRow(row, target[row]);
+        }
+        return next;
+    }
+
+    private static void evolveBand(Grid grid, LargerThanLifeRules rules,
+                                   long[][] source, long[][] target, int from, int to,
+                                   BooleanSupplier stopRequested) {
+        var radius = rules.radius();
+        var cols = grid.getCols();
+        var topology = grid.getBoundary().topology(grid.getRows(), cols, radius);
+        var colIndex = topology.colIndex();
+        var rowIndex = topology.rowIndex();
+
+        // columnSums[p]: live cells in the vertical window around the current row, padded column p
+        var columnSums = new int[cols + 2 * radius];
+        for (int r = from - radius; r < from + radius; r++) {
+            addRow(source, rowIndex[r + radius], colIndex, columnSums, 1);
+        }
+        for (int row = from; row < to; row++) {
+            if (stopRequested.getAsBoolean()) {
+                return;
+            }
+            addRow(source, rowIndex[row + 2 * radius], colIndex, columnSums, 1);
+
+            var bits = source[row];
+            var out = new long[bits.length];
+            var window = 0;
+            for (int p = 0; p < 2 * radius; p++) {
+                window += columnSums[p];
+            }
+            for (int col = 0; col < cols; col++) {
+                window += columnSums[col + 2 * radius];
+                var alive = (bits[col >>> 6] & (1L << col)) != 0;
+                var count = window - (alive && !rules.includeCenter() ? 1 : 0);
+                if (alive ?
+                        count >= rules.survivalMin() && count <= rules.survivalMax() :
+                        count >= rules.birthMin() && count <= rules.birthMax()) {
+                    out[col >>> 6] |= 1L << col;
+                }
+                window -= columnSums[col];
+            }
+            target[row] = out;
+
+            addRow(source, rowIndex[row], colIndex, columnSums, -1);
+        }
+    }
+
+    private static void addRow(long[][] source, int row, int[] colIndex, int[] columnSums, int sign) {
+        if (row == Topology.OUTSIDE) {
+            return;
+        }
+        var bits = source[row];
+        for (int p = 0; p < colIndex.length; p++) {
+            var col = colIndex[p];
+            if (col != Topology.OUTSIDE && (bits[col >>> 6] & (1L << col)) != 0) {
+                columnSums[p] += sign;
+            }
+        }
+    }
+}
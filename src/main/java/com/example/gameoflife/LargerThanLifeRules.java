@@ -0,0 +1,38 @@
+package com.example.gameoflife;
+
+// Range-r Moore neighborhood rule with birth and survival intervals (inclusive)
+public record LargerThanLifeRules(int radius, boolean includeCenter,
+                                  int birthMin, int birthMax,
+                                  int survivalMin, int survivalMax) implements GameRules {
+
+    public LargerThanLifeRules {
+        if (radius <= 0) {
+            throw new IllegalArgumentException("Radius must be positive: " + radius);
+        }
+        if (birthMin > birthMax || survivalMin > survivalMax) {
+            throw new IllegalArgumentException(
+                "Empty interval: B%d..%d S%d..%d".formatted(birthMin, birthMax, survivalMin, survivalMax));
+        }
+    }
+
+    public static LargerThanLifeRules conway() {
+        return new LargerThanLifeRules(1, false, 3, 3, 2, 3);
+    }
+
+    // Bosco's rule: R5,C0,M1,S34..58,B34..45
+    public static LargerThanLifeRules bosco() {
+        return new LargerThanLifeRules(5, true, 34, 45, 34, 58);
+    }
+
+    public int neighborhoodSize() {
+        var side = 2 * radius + 1;
+        return side * side - (includeCenter ? 0 : 1);
+    }
+
+    @Override
+    public CellState nextState(CellState currentState, int liveNeighbors) {
+        return CellState.fromBoolean(currentState.isAlive() ?
+            liveNeighbors >= survivalMin && liveNeighbors <= survivalMax :
+            liveNeighbors >= birthMin && liveNeighbors <= birthMax);
+    }
+}
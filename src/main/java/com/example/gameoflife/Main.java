@@ -1,7 +1,18 @@
 package com.example.gameoflife;
 
+import java.util.Locale;
+
 public class Main {
     static void main() {
+        var serverPort = System.getProperty("server.port");
+        if (serverPort != null) {
+            runServer(Integer.parseInt(serverPort));
+            return;
+        }
+        if (System.getProperty("benchmark") != null) {
+            runBenchmark(System.getProperty("benchmark.format", "text"));
+            return;
+        }
         try {
             // Example 1: Using a predefined pattern
             System.out.println("=== Glider Pattern ===");
@@ -61,4 +72,39 @@ public class Main {
             throw new RuntimeException(e);
         }
     }
+
+    private static void runBenchmark(String format) {
+        var normalized = format.trim().toLowerCase(Locale.ROOT);
+        // Checked before the run: CI parses this output, so a typo must not fall back to text
+        if (!normalized.equals("text") && !normalized.equals("json") && !normalized.equals("both")) {
+            throw new IllegalArgumentException("Unknown benchmark format: " + format);
+        }
+        try {
+            var result = Benchmark.run(Benchmark.Options.fromProperties(System.getProperties()));
+            switch (normalized) {
+                case "json" -> System.out.println(result.toJson());
+                case "both" -> {
+                    System.out.print(result.toText());
+                    System.out.println(result.toJson());
+                }
+                default -> System.out.print(result.toText());
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void runServer(int port) {
+        var stepsPerSecond = Double.parseDouble(System.getProperty("server.stepsPerSecond", "1000"));
+        var maxCells = Long.parseLong(System.getProperty("server.maxCells",
+            Long.toString(SimulationServer.DEFAULT_MAX_CELLS)));
+        try (var server = SimulationServer.start(port, stepsPerSecond, (int) Math.max(1, stepsPerSecond), maxCells)) {
+            System.out.println("Simulation server listening on http://localhost:" + server.getPort() + "/runs");
+            Thread.currentThread().join();
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
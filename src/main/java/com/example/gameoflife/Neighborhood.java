@@ -0,0 +1,137 @@
+package com.example.gameoflife;
+
+import java.util.*;
+
+// The cells whose live count a rule sees, as (row, col) offsets compiled once into flat arrays
+// sorted row-major. Hexagonal boards use the axial layout Golly and LifeWiki use for "H" rules:
+// a cell touches two cells in the row above (up-left and straight up), two beside it and two
+// below (straight down and down-right); the up-right and down-left corners are not neighbors.
+public final class Neighborhood {
+    private static final Neighborhood MOORE = new Neighborhood("moore", new int[][] {
+        {-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}});
+    private static final Neighborhood VON_NEUMANN = new Neighborhood("vonneumann", new int[][] {
+        {-1, 0}, {0, -1}, {0, 1}, {1, 0}});
+    private static final Neighborhood HEXAGONAL = new Neighborhood("hexagonal", new int[][] {
+        {-1, -1}, {-1, 0}, {0, -1}, {0, 1}, {1, 0}, {1, 1}});
+
+    private final String name;
+    private final int[] rowOffsets;
+    private final int[] colOffsets;
+    private final int radius;
+    // Last compiled index deltas, keyed by stride; engines reuse one stride per board
+    private volatile Deltas deltas;
+
+    private record Deltas(int stride, int[] values) {}
+
+    private Neighborhood(String name, int[][] offsets) {
+        var sorted = offsets.clone();
+        Arrays.sort(sorted, Comparator.<int[]>comparingInt(offset -> offset[0]).thenComparingInt(offset -> offset[1]));
+        this.name = name;
+        this.rowOffsets = Arrays.stream(sorted).mapToInt(offset -> offset[0]).toArray();
+        this.colOffsets = Arrays.stream(sorted).mapToInt(offset -> offset[1]).toArray();
+        this.radius = Arrays.stream(sorted)
+            .mapToInt(offset -> Math.max(Math.abs(offset[0]), Math.abs(offset[1])))
+            .max().orElse(0);
+    }
+
+    public static Neighborhood moore() {
+        return MOORE;
+    }
+
+    public static Neighborhood vonNeumann() {
+        return VON_NEUMANN;
+    }
+
+    public static Neighborhood hexagonal() {
+        return HEXAGONAL;
+    }
+
+    // Offsets are given as cells relative to the center; duplicates collapse
+    public static Neighborhood custom(String name, Collection<Cell> offsets) {
+        Objects.requireNonNull(name, "Neighborhood name cannot be null");
+        var distinct = new LinkedHashSet<>(offsets);
+        if (distinct.isEmpty()) {
+            throw new IllegalArgumentException("Neighborhood needs at least one offset");
+        }
+        if (distinct.contains(Cell.of(0, 0))) {
+            throw new IllegalArgumentException("Neighborhood cannot include the center cell");
+        }
+        return new Neighborhood(name, distinct.stream()
+            .map(cell -> new int[] {cell.row(), cell.col()})
+            .toArray(int[][]::new));
+    }
+
+    public static Neighborhood parse(String name) {
+        return switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "moore" -> MOORE;
+            case "vonneumann", "von-neumann", "von_neumann" -> VON_NEUMANN;
+            case "hex", "hexagonal" -> HEXAGONAL;
+            default -> throw new IllegalArgumentException("Unknown neighborhood: " + name);
+        };
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int size() {
+        return rowOffsets.length;
+    }
+
+    // Largest offset along either axis: the halo a padded board needs
+    public int radius() {
+        return radius;
+    }
+
+    public List<Cell> offsets() {
+        var offsets = new ArrayList<Cell>(size());
+        for (int i = 0; i < size(); i++) {
+            offsets.add(Cell.of(rowOffsets[i], colOffsets[i]));
+        }
+        return offsets;
+    }
+
+    // Shared arrays for engines; callers must treat them as read-only
+    int[] rowOffsets() {
+        return rowOffsets;
+    }
+
+    int[] colOffsets() {
+        return colOffsets;
+    }
+
+    // Offsets into a row-major array whose rows are stride cells apart and padded by radius()
+    // on every side: the neighbors of index i are i + deltas[k]
+    int[] indexDeltas(int stride) {
+        var cached = deltas;
+        if (cached != null && cached.stride() == stride) {
+            return cached.values();
+        }
+        var values = new int[size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rowOffsets[i] * stride + colOffsets[i];
+        }
+        deltas = new Deltas(stride, values);
+        return values;
+    }
+
+    boolean isMoore() {
+        return equals(MOORE);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || obj instanceof Neighborhood other &&
+            Arrays.equals(rowOffsets, other.rowOffsets) && Arrays.equals(colOffsets, other.colOffsets);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(rowOffsets) + Arrays.hashCode(colOffsets);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.gameoflife;
 
+import java.util.Arrays;
+
 public enum Pattern {
     BLINKER("""
         ...
@@ -58,17 +60,33 @@ public enum Pattern {
         ............OO......................
         """);
     
-    private final String template;
+    // Compiled once per constant: one bitmap per symmetry, indexed by Transform ordinal
+    private final PatternBitmap[] variants;
 
     Pattern(String template) {
-        this.template = template;
+        var bitmap = PatternBitmap.parse(template);
+        this.variants = Arrays.stream(Transform.values())
+            .map(bitmap::transform)
+            .toArray(PatternBitmap[]::new);
+    }
+
+    public PatternBitmap bitmap() {
+        return bitmap(Transform.IDENTITY);
+    }
+
+    public PatternBitmap bitmap(Transform transform) {
+        return variants[transform.ordinal()];
     }
 
     public Grid toGrid() {
-        return new Grid(template);
+        return toGrid(new BoundaryCondition.Fixed());
     }
 
     public Grid toGrid(BoundaryCondition boundary) {
-        return new Grid(template, boundary);
+        return bitmap().toGrid(boundary);
+    }
+
+    public void stamp(Grid grid, int row, int col, Transform transform, StampMode mode) {
+        bitmap(transform).stampInto(grid, row, col, mode);
     }
 }
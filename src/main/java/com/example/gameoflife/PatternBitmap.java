@@ -0,0 +1,236 @@
+package com.example.gameoflife;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+public final class PatternBitmap {
+    private final int height;
+    private final int width;
+    private final int wordsPerRow;
+    private final long[] bits;
+
+    PatternBitmap(int height, int width) {
+        this(height, width, new long[height * ((width + 63) >>> 6)]);
+    }
+
+    private PatternBitmap(int height, int width, long[] bits) {
+        this.height = height;
+        this.width = width;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.bits = bits;
+    }
+
+    public static PatternBitmap parse(String template) {
+        var lines = template.trim().lines().toList();
+        var bitmap = new PatternBitmap(lines.size(), lines.isEmpty() ? 0 : lines.getFirst().length());
+        for (int row = 0; row < bitmap.height; row++) {
+            var line = lines.get(row);
+            for (int col = 0; col < Math.min(bitmap.width, line.length()); col++) {
+                if (CellState.fromChar(line.charAt(col)).isAlive()) {
+                    bitmap.set(row, col);
+                }
+            }
+        }
+        return bitmap;
+    }
+
+    // Run-length encoded pattern: '#' comment lines, an optional "x = w, y = h" header, then runs of
+    // b/. (dead) or any other letter (alive), '$' ending rows and '!' ending the pattern
+    public static PatternBitmap parseRle(String rle) {
+        var cells = new ArrayList<Cell>();
+        int width = -1, height = -1;
+        int row = 0, col = 0, count = 0;
+        body:
+        for (var line : rle.lines().toList()) {
+            var trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            if (trimmed.startsWith("x") && width < 0 && cells.isEmpty() && row == 0 && col == 0) {
+                for (var field : trimmed.split(",")) {
+                    var pair = field.split("=", 2);
+                    if (pair.length == 2 && pair[0].strip().equals("x")) {
+                        width = Integer.parseInt(pair[1].strip());
+                    } else if (pair.length == 2 && pair[0].strip().equals("y")) {
+                        height = Integer.parseInt(pair[1].strip());
+                    }
+                }
+                continue;
+            }
+            for (int i = 0; i < trimmed.length(); i++) {
+                var c = trimmed.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    count = count * 10 + (c - '0');
+                    continue;
+                }
+                var run = Math.max(count, 1);
+                count = 0;
+                switch (c) {
+                    case '!' -> { break body; }
+                    case '$' -> { row += run; col = 0; }
+                    case 'b', '.' -> col += run;
+                    default -> {
+                        if (Character.isWhitespace(c)) {
+                            continue;
+                        }
+                        if (!Character.isLetter(c)) {
+                            throw new IllegalArgumentException("Unknown RLE character: " + c);
+                        }
+                        for (int k = 0; k < run; k++) {
+                            cells.add(Cell.of(row, col++));
+                        }
+                    }
+                }
+            }
+        }
+        if (width < 0 || height < 0) {
+            return fromCells(cells);
+        }
+        var bitmap = new PatternBitmap(height, width);
+        for (var cell : cells) {
+            if (cell.row() >= height || cell.col() >= width) {
+                throw new IllegalArgumentException(
+                    "RLE cell (%d, %d) lies outside its declared %dx%d box".formatted(cell.row(), cell.col(), width, height));
+            }
+            bitmap.set(cell.row(), cell.col());
+        }
+        return bitmap;
+    }
+
+    // Wraps row-major words, one long per 64 columns, without copying
+    static PatternBitmap fromWords(int height, int width, long[] words) {
+        var bitmap = new PatternBitmap(height, width, words);
+        if (words.length != height * bitmap.wordsPerRow) {
+            throw new IllegalArgumentException(
+                "Expected %d words for %dx%d but got %d".formatted(height * bitmap.wordsPerRow, height, width, words.length));
+        }
+        return bitmap;
+    }
+
+    long[] words() {
+        return bits;
+    }
+
+    void set(int row, int col) {
+        bits[row * wordsPerRow + (col >>> 6)] |= 1L << col;
+    }
+
+    // Shape of the given cells, translated so their bounding box starts at (0, 0)
+    public static PatternBitmap fromCells(Collection<Cell> cells) {
+        if (cells.isEmpty()) {
+            return new PatternBitmap(0, 0);
+        }
+        var top = cells.stream().mapToInt(Cell::row).min().orElseThrow();
+        var left = cells.stream().mapToInt(Cell::col).min().orElseThrow();
+        var bottom = cells.stream().mapToInt(Cell::row).max().orElseThrow();
+        var right = cells.stream().mapToInt(Cell::col).max().orElseThrow();
+        var bitmap = new PatternBitmap(bottom - top + 1, right - left + 1);
+        cells.forEach(cell -> bitmap.set(cell.row() - top, cell.col() - left));
+        return bitmap;
+    }
+
+    public boolean get(int row, int col) {
+        Objects.checkIndex(row, height);
+        Objects.checkIndex(col, width);
+        return (bits[row * wordsPerRow + (col >>> 6)] & (1L << col)) != 0;
+    }
+
+    public PatternBitmap transform(Transform transform) {
+        if (transform == Transform.IDENTITY) {
+            return this;
+        }
+        var result = transform.swapsAxes() ?
+            new PatternBitmap(width, height) : new PatternBitmap(height, width);
+        forEachLive((row, col) ->
+            result.set(transform.row(row, col, height, width), transform.col(row, col, height, width)));
+        return result;
+    }
+
+    // Walks set bits word by word, skipping empty stretches
+    void forEachLive(CellVisitor visitor) {
+        for (int row = 0; row < height; row++) {
+            for (int w = 0; w < wordsPerRow; w++) {
+                var word = bits[row * wordsPerRow + w];
+                while (word != 0) {
+                    visitor.visit(row, (w << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+    }
+
+    public void stampInto(Grid grid, int top, int left, StampMode mode) {
+        switch (mode) {
+            case OR -> forEachLive((row, col) -> grid.setAlive(top + row, left + col, true));
+            case XOR -> forEachLive((row, col) ->
+                grid.setAlive(top + row, left + col, !grid.isAlive(top + row, left + col)));
+            case REPLACE -> {
+                for (int row = 0; row < height; row++) {
+                    for (int col = 0; col < width; col++) {
+                        grid.setAlive(top + row, left + col,
+                            (bits[row * wordsPerRow + (col >>> 6)] & (1L << col)) != 0);
+                    }
+                }
+            }
+        }
+    }
+
+    public Grid toGrid(BoundaryCondition boundary) {
+        var grid = new Grid(height, width, boundary);
+        stampInto(grid, 0, 0, StampMode.OR);
+        return grid;
+    }
+
+    // Orientation-independent representative: the smallest of the eight symmetric variants
+    public PatternBitmap canonical() {
+        return Arrays.stream(Transform.values())
+            .map(this::transform)
+            .min(PatternBitmap::compareShape)
+            .orElseThrow();
+    }
+
+    public long canonicalHash() {
+        var canonical = canonical();
+        long hash = 31L * canonical.height + canonical.width;
+        for (long word : canonical.bits) {
+            hash = (hash ^ word) * 0x9E3779B97F4A7C15L;
+        }
+        // Final avalanche (MurmurHash3 fmix64)
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private int compareShape(PatternBitmap other) {
+        if (height != other.height) {
+            return Integer.compare(height, other.height);
+        }
+        if (width != other.width) {
+            return Integer.compare(width, other.width);
+        }
+        return Arrays.compareUnsigned(bits, other.bits);
+    }
+
+    public int population() {
+        return Arrays.stream(bits).mapToInt(Long::bitCount).sum();
+    }
+
+    public int getHeight() { return height; }
+    public int getWidth() { return width; }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof PatternBitmap other &&
+            height == other.height &&
+            width == other.width &&
+            Arrays.equals(bits, other.bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(height, width) + Arrays.hashCode(bits);
+    }
+}
@@ -0,0 +1,410 @@
+package com.example.gameoflife;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+// Read-only catalog of pattern files, built once into an index file and memory-mapped on open. The
+// index holds a fixed-width record per pattern sorted by canonical hash, a name-sorted permutation
+// of those records, the names, and every pattern's bitmap words; lookups are binary searches over
+// the mapping and only touch the pages they read. Bitmaps are decoded on first use and kept in a
+// small LRU cache.
+//
+// Layout: header (magic, version, count, names offset, data offset), count records of
+// RECORD_BYTES (hash, name offset, name length, height, width, population, period, data offset),
+// count ints of record numbers in name order, UTF-8 names, then bitmap words.
+public final class PatternCatalog {
+    static final int MAGIC = 0x474F4C43;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int RECORD_BYTES = 40;
+    private static final int DEFAULT_CACHE_ENTRIES = 1024;
+    private static final int DEFAULT_MAX_PERIOD = 64;
+
+    // period is the smallest number of generations after which the shape recurs up to translation
+    // under the rule the catalog was built with, or 0 if it does not recur within the build's limit
+    public record Entry(String name, int height, int width, int population, int period, long canonicalHash) {}
+
+    private record Indexed(String name, byte[] nameBytes, PatternBitmap shape, int period, long canonicalHash) {}
+
+    // A scanned file: its pattern, or why it could not be parsed
+    private record Scanned(Indexed pattern, String skipped) {}
+
+    private record Scan(List<Indexed> patterns, List<String> skipped) {}
+
+    private final ByteBuffer index;
+    private final int count;
+    private final int namesOffset;
+    private final int dataOffset;
+    private final int orderOffset;
+    private final int cacheEntries;
+    private final List<String> skipped;
+    private final LinkedHashMap<Integer, PatternBitmap> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    private PatternCatalog(ByteBuffer index, int cacheEntries, List<String> skipped) throws IOException {
+        this.index = index;
+        this.cacheEntries = cacheEntries;
+        this.skipped = skipped;
+        if (index.capacity() < HEADER_BYTES || index.getInt(0) != MAGIC || index.getInt(4) != VERSION) {
+            throw new IOException("Not a pattern catalog");
+        }
+        count = index.getInt(8);
+        var names = index.getLong(16);
+        var data = index.getLong(24);
+        orderOffset = HEADER_BYTES + count * RECORD_BYTES;
+        if (count < 0 || names != orderOffset + 4L * count || data < names || data > index.capacity()) {
+            throw new IOException("Corrupt pattern catalog header");
+        }
+        namesOffset = (int) names;
+        dataOffset = (int) data;
+    }
+
+    public static PatternCatalog open(Path indexFile) throws IOException {
+        return open(indexFile, DEFAULT_CACHE_ENTRIES);
+    }
+
+    public static PatternCatalog open(Path indexFile, int cacheEntries) throws IOException {
+        if (cacheEntries <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + cacheEntries);
+        }
+        return open(indexFile, cacheEntries, List.of());
+    }
+
+    private static PatternCatalog open(Path indexFile, int cacheEntries, List<String> skipped) throws IOException {
+        try (var channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Pattern catalog larger than 2 GiB: " + channel.size());
+            }
+            // The mapping stays valid after the channel closes
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new PatternCatalog(mapped, cacheEntries, skipped);
+        }
+    }
+
+    public static PatternCatalog build(Path source, Path indexFile) throws IOException {
+        return build(source, indexFile, GameRules.conway(), DEFAULT_MAX_PERIOD);
+    }
+
+    // Indexes every .rle, .cells and .txt file under source, a directory or a zip archive, and
+    // writes the index atomically. Names are paths relative to source without the extension; when
+    // two files share a name the first in path order wins. Files that do not parse as patterns
+    // (a readme.txt, say) are left out and listed by skipped(); read errors still fail the build.
+    public static PatternCatalog build(Path source, Path indexFile, GameRules rules, int maxPeriod) throws IOException {
+        Objects.requireNonNull(rules, "Rules cannot be null");
+        if (maxPeriod < 0) {
+            throw new IllegalArgumentException("Period limit cannot be negative: " + maxPeriod);
+        }
+        Scan scan;
+        if (Files.isDirectory(source)) {
+            scan = scan(source, rules, maxPeriod);
+        } else {
+            try (var archive = FileSystems.newFileSystem(source)) {
+                scan = scan(archive.getRootDirectories().iterator().next(), rules, maxPeriod);
+            }
+        }
+        write(scan.patterns(), indexFile);
+        return open(indexFile, DEFAULT_CACHE_ENTRIES, scan.skipped());
+    }
+
+    private static Scan scan(Path root, GameRules rules, int maxPeriod) throws IOException {
+        List<Path> files;
+        try (var walk = Files.walk(root)) {
+            files = walk.filter(Files::isRegularFile)
+                .filter(file -> extension(file) != null)
+                .sorted(Comparator.comparing(file -> root.relativize(file).toString()))
+                .toList();
+        }
+        List<Scanned> scanned;
+        try {
+            scanned = files.parallelStream().map(file -> indexed(root, file, rules, maxPeriod)).toList();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        // Names are claimed after parsing, so a skipped file never hides a pattern of the same name
+        var seen = new HashSet<String>();
+        var patterns = new ArrayList<Indexed>();
+        var skipped = new ArrayList<String>();
+        for (var file : scanned) {
+            if (file.pattern() == null) {
+                skipped.add(file.skipped());
+            } else if (seen.add(file.pattern().name())) {
+                patterns.add(file.pattern());
+            }
+        }
+        return new Scan(patterns, List.copyOf(skipped));
+    }
+
+    private static String extension(Path file) {
+        var name = file.getFileName().toString();
+        var dot = name.lastIndexOf('.');
+        var extension = dot < 0 ? "" : name.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return switch (extension) {
+            case "rle", "cells", "txt" -> extension;
+            default -> null;
+        };
+    }
+
+    private static String name(Path root, Path file) {
+        var relative = root.relativize(file);
+        var parts = new StringJoiner("/");
+        relative.forEach(part -> parts.add(part.toString()));
+        var joined = parts.toString();
+        return joined.substring(0, joined.lastIndexOf('.'));
+    }
+
+    private static Scanned indexed(Path root, Path file, GameRules rules, int maxPeriod) {
+        try {
+            var text = Files.readString(file);
+            var parsed = extension(file).equals("rle") ? PatternBitmap.parseRle(text) : parsePlaintext(text);
+            var cells = new ArrayList<Cell>();
+            parsed.forEachLive((row, col) -> cells.add(Cell.of(row, col)));
+            var shape = PatternBitmap.fromCells(cells);
+            var name = name(root, file);
+            return new Scanned(new Indexed(name, name.getBytes(StandardCharsets.UTF_8), shape,
+                period(cells, shape, rules, maxPeriod), shape.canonicalHash()), null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (IllegalArgumentException e) {
+            return new Scanned(null, root.relativize(file) + ": " + e.getMessage());
+        }
+    }
+
+    // Life 1.05 plaintext: '!' comment lines, rows of '.' and 'O' that may omit trailing dead cells
+    private static PatternBitmap parsePlaintext(String text) {
+        var cells = new ArrayList<Cell>();
+        var row = 0;
+        for (var line : text.lines().toList()) {
+            if (line.startsWith("!")) {
+                continue;
+            }
+            for (int col = 0; col < line.length(); col++) {
+                if (CellState.fromChar(line.charAt(col)).isAlive()) {
+                    cells.add(Cell.of(row, col));
+                }
+            }
+            row++;
+        }
+        return PatternBitmap.fromCells(cells);
+    }
+
+    private static int period(List<Cell> cells, PatternBitmap shape, GameRules rules, int maxPeriod) {
+        if (cells.isEmpty()) {
+            return 0;
+        }
+        var grid = new Grid(Math.max(1, shape.getHeight()), Math.max(1, shape.getWidth()), new BoundaryCondition.Infinite());
+        cells.forEach(cell -> grid.setCellState(cell, CellState.ALIVE));
+        var current = grid;
+        try {
+            for (int generation = 1; generation <= maxPeriod; generation++) {
+                current = current.evolveWith(rules, Runnable::run);
+                var live = current.getLiveCells();
+                if (live.isEmpty()) {
+                    return 0;
+                }
+                if (live.size() == cells.size() && PatternBitmap.fromCells(live).equals(shape)) {
+                    return generation;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while computing a pattern period", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to compute a pattern period", e);
+        }
+        return 0;
+    }
+
+    private static void write(List<Indexed> patterns, Path indexFile) throws IOException {
+        var byHash = patterns.stream()
+            .sorted(Comparator.comparingLong(Indexed::canonicalHash)
+                .thenComparing(Indexed::nameBytes, Arrays::compareUnsigned))
+            .toList();
+        var byName = IntStream.range(0, byHash.size()).boxed()
+            .sorted(Comparator.comparing(i -> byHash.get(i).nameBytes(), Arrays::compareUnsigned))
+            .mapToInt(Integer::intValue)
+            .toArray();
+
+        var namesOffset = HEADER_BYTES + (long) byHash.size() * (RECORD_BYTES + 4);
+        var namesBytes = byHash.stream().mapToLong(pattern -> pattern.nameBytes().length).sum();
+        var dataOffset = namesOffset + namesBytes;
+        var dataBytes = byHash.stream().mapToLong(pattern -> 8L * pattern.shape().words().length).sum();
+        if (dataOffset + dataBytes > Integer.MAX_VALUE) {
+            throw new IOException("Pattern catalog would exceed 2 GiB");
+        }
+
+        var buffer = ByteBuffer.allocate((int) (dataOffset + dataBytes));
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(byHash.size()).putInt(0).putLong(namesOffset).putLong(dataOffset);
+        long nameAt = 0;
+        long dataAt = 0;
+        for (var pattern : byHash) {
+            var shape = pattern.shape();
+            buffer.putLong(pattern.canonicalHash())
+                .putInt((int) nameAt).putInt(pattern.nameBytes().length)
+                .putInt(shape.getHeight()).putInt(shape.getWidth())
+                .putInt(shape.population()).putInt(pattern.period())
+                .putLong(dataAt);
+            nameAt += pattern.nameBytes().length;
+            dataAt += 8L * shape.words().length;
+        }
+        for (int record : byName) {
+            buffer.putInt(record);
+        }
+        byHash.forEach(pattern -> buffer.put(pattern.nameBytes()));
+        for (var pattern : byHash) {
+            buffer.asLongBuffer().put(pattern.shape().words());
+            buffer.position(buffer.position() + 8 * pattern.shape().words().length);
+        }
+
+        var temp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    // Files the build that made this catalog could not parse, as "path: reason" in path order;
+    // empty for a catalog opened from an existing index
+    public List<String> skipped() {
+        return skipped;
+    }
+
+    public Optional<Entry> byName(String name) {
+        var record = recordNamed(name);
+        return record < 0 ? Optional.empty() : Optional.of(entry(record));
+    }
+
+    // Every pattern with this canonical hash, in name order
+    public List<Entry> byHash(long canonicalHash) {
+        var entries = new ArrayList<Entry>();
+        for (int record = firstWithHash(canonicalHash); record < count && hash(record) == canonicalHash; record++) {
+            entries.add(entry(record));
+        }
+        return entries;
+    }
+
+    // Patterns whose shape equals this one in some orientation; bitmaps are compared, so hash
+    // collisions never match
+    public List<Entry> matching(PatternBitmap shape) {
+        var canonical = shape.canonical();
+        var canonicalHash = shape.canonicalHash();
+        var entries = new ArrayList<Entry>();
+        for (int record = firstWithHash(canonicalHash); record < count && hash(record) == canonicalHash; record++) {
+            if (bitmap(record).canonical().equals(canonical)) {
+                entries.add(entry(record));
+            }
+        }
+        return entries;
+    }
+
+    public Optional<PatternBitmap> load(String name) {
+        var record = recordNamed(name);
+        return record < 0 ? Optional.empty() : Optional.of(bitmap(record));
+    }
+
+    // All entries in canonical hash order, decoded as the stream is consumed
+    public Stream<Entry> entries() {
+        return IntStream.range(0, count).mapToObj(this::entry);
+    }
+
+    private int recordNamed(String name) {
+        var key = name.getBytes(StandardCharsets.UTF_8);
+        int low = 0, high = count - 1;
+        while (low <= high) {
+            var mid = (low + high) >>> 1;
+            var record = index.getInt(orderOffset + 4 * mid);
+            var order = compareName(record, key);
+            if (order == 0) {
+                return record;
+            }
+            if (order < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return -1;
+    }
+
+    private int firstWithHash(long canonicalHash) {
+        int low = 0, high = count;
+        while (low < high) {
+            var mid = (low + high) >>> 1;
+            if (hash(mid) < canonicalHash) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int recordOffset(int record) {
+        return HEADER_BYTES + record * RECORD_BYTES;
+    }
+
+    private long hash(int record) {
+        return index.getLong(recordOffset(record));
+    }
+
+    // Unsigned byte order, matching the order the names were sorted in at build time
+    private int compareName(int record, byte[] key) {
+        var offset = recordOffset(record);
+        var start = namesOffset + index.getInt(offset + 8);
+        var length = index.getInt(offset + 12);
+        for (int i = 0; i < Math.min(length, key.length); i++) {
+            var order = Integer.compare(Byte.toUnsignedInt(index.get(start + i)), Byte.toUnsignedInt(key[i]));
+            if (order != 0) {
+                return order;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    private Entry entry(int record) {
+        var offset = recordOffset(record);
+        var name = new byte[index.getInt(offset + 12)];
+        index.get(namesOffset + index.getInt(offset + 8), name);
+        return new Entry(new String(name, StandardCharsets.UTF_8),
+            index.getInt(offset + 16), index.getInt(offset + 20),
+            index.getInt(offset + 24), index.getInt(offset + 28), index.getLong(offset));
+    }
+
+    private synchronized PatternBitmap bitmap(int record) {
+        var cached = cache.get(record);
+        if (cached != null) {
+            return cached;
+        }
+        var offset = recordOffset(record);
+        var height = index.getInt(offset + 16);
+        var width = index.getInt(offset + 20);
+        var words = new long[height * ((width + 63) >>> 6)];
+        var start = dataOffset + (int) index.getLong(offset + 32);
+        for (int i = 0; i < words.length; i++) {
+            words[i] = index.getLong(start + 8 * i);
+        }
+        var bitmap = PatternBitmap.fromWords(height, width, words);
+        cache.put(record, bitmap);
+        if (cache.size() > cacheEntries) {
+            cache.remove(cache.keySet().iterator().next());
+        }
+        return bitmap;
+    }
+}
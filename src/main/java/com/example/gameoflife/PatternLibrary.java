@@ -0,0 +1,131 @@
+package com.example.gameoflife;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+// Shapes indexed by canonical hash, so classifying an object is one map lookup whatever its orientation
+public final class PatternLibrary {
+    public static final String UNKNOWN = "unknown";
+
+    private static final Map<String, String> CATALOG = Map.of(
+        "beehive", """
+            .OO.
+            O..O
+            .OO.
+            """,
+        "loaf", """
+            .OO.
+            O..O
+            .O.O
+            ..O.
+            """,
+        "boat", """
+            OO.
+            O.O
+            .O.
+            """,
+        "tub", """
+            .O.
+            O.O
+            .O.
+            """,
+        "ship", """
+            OO.
+            O.O
+            .OO
+            """,
+        "pond", """
+            .OO.
+            O..O
+            O..O
+            .OO.
+            """,
+        "lwss", """
+            .O..O
+            O....
+            O...O
+            OOOO.
+            """
+    );
+
+    private record Entry(String name, PatternBitmap canonical) {}
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    // Every Pattern constant and the common still lifes and spaceships, all phases included
+    public static PatternLibrary standard() {
+        var library = new PatternLibrary();
+        for (var pattern : Pattern.values()) {
+            library.registerWithPhases(pattern.name().toLowerCase(Locale.ROOT), pattern.bitmap(), 4);
+        }
+        CATALOG.forEach((name, template) -> library.registerWithPhases(name, PatternBitmap.parse(template), 4));
+        return library;
+    }
+
+    // Returns false when an identical shape is already registered
+    public boolean register(String name, PatternBitmap shape) {
+        Objects.requireNonNull(name, "Name cannot be null");
+        var canonical = shape.canonical();
+        return entries.putIfAbsent(shape.canonicalHash(), new Entry(name, canonical)) == null;
+    }
+
+    // Registers the shape and its successors under Conway's rules until it repeats or maxPhases is reached
+    public void registerWithPhases(String name, PatternBitmap shape, int maxPhases) {
+        if (maxPhases <= 0) {
+            throw new IllegalArgumentException("Phase count must be positive: " + maxPhases);
+        }
+        var first = shape.canonicalHash();
+        var phase = shape;
+        for (int i = 0; i < maxPhases; i++) {
+            register(name, phase);
+            phase = next(phase);
+            if (phase.population() == 0 || phase.canonicalHash() == first) {
+                return;
+            }
+        }
+    }
+
+    private static PatternBitmap next(PatternBitmap shape) {
+        // One cell of padding holds everything a single generation can reach
+        var grid = new Grid(shape.getHeight() + 2, shape.getWidth() + 2,
+            new BoundaryCondition.Fixed(), StorageMode.DENSE);
+        shape.stampInto(grid, 1, 1, StampMode.OR);
+        try {
+            return PatternBitmap.fromCells(grid.evolveWith(GameRules.conway(), Runnable::run).getLiveCells());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while computing pattern phases", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Failed to compute pattern phases", e);
+        }
+    }
+
+    public Optional<String> classify(Component component) {
+        var entry = entries.get(component.canonicalHash());
+        // Cheap guard against hash collisions: population and box must agree up to rotation
+        if (entry == null || entry.canonical().population() != component.population() ||
+                !sameBox(entry.canonical(), component.height(), component.width())) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.name());
+    }
+
+    private static boolean sameBox(PatternBitmap canonical, int height, int width) {
+        return (canonical.getHeight() == height && canonical.getWidth() == width) ||
+            (canonical.getHeight() == width && canonical.getWidth() == height);
+    }
+
+    // Object counts per name; unmatched objects are counted under UNKNOWN
+    public Map<String, Long> census(Collection<Component> components) {
+        return components.parallelStream()
+            .collect(Collectors.groupingByConcurrent(
+                component -> classify(component).orElse(UNKNOWN), Collectors.counting()));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
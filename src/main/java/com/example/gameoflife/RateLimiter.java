@@ -0,0 +1,62 @@
+package com.example.gameoflife;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Token bucket: refills at a steady rate up to a burst capacity
+final class RateLimiter {
+    private final double permitsPerNano;
+    private final double capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private double available;
+    private long lastRefill;
+
+    RateLimiter(double permitsPerSecond, double burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException(
+                "Invalid rate limit: %.2f/s, burst %.2f".formatted(permitsPerSecond, burst));
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = burst;
+        this.available = burst;
+        this.lastRefill = System.nanoTime();
+    }
+
+    boolean tryAcquire(int permits) {
+        lock.lock();
+        try {
+            refill();
+            if (available < permits) {
+                return false;
+            }
+            available -= permits;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void acquire() throws InterruptedException {
+        while (true) {
+            long waitNanos;
+            lock.lock();
+            try {
+                refill();
+                if (available >= 1) {
+                    available -= 1;
+                    return;
+                }
+                waitNanos = (long) Math.ceil((1 - available) / permitsPerNano);
+            } finally {
+                lock.unlock();
+            }
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private void refill() {
+        var now = System.nanoTime();
+        available = Math.min(capacity, available + (now - lastRefill) * permitsPerNano);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,278 @@
+package com.example.gameoflife;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+// Runs one seed under many rules at once. Runs whose boards are identical form a group that is
+// stepped together: a life-like rule's next board only depends on its outcome for the
+// (state, neighbor count) pairs that actually occur on the current board, so a group computes the
+// neighbor counts once and one next board per distinct outcome instead of one per rule. Groups
+// step in parallel once runs diverge, and runs that reconverge (an empty board, say) merge again.
+public final class RuleBatch {
+    // Below this many life-like rules a group steps each one directly; the count planes cost four steps
+    private static final int PLANE_MIN_RULES = 5;
+
+    // populations[g] is the population at generation g; divergedAt is the first generation whose
+    // board no other run shared, or -1 if the run always had company
+    public record Run(String rule, long[] populations, int divergedAt) {
+        public long finalPopulation() {
+            return populations[populations.length - 1];
+        }
+    }
+
+    // boardsComputed counts next boards actually evaluated, against rules x generations for separate runs
+    public record Report(int generations, List<Run> runs, long boardsComputed) {
+        public long independentBoards() {
+            return (long) runs.size() * generations;
+        }
+
+        public Optional<Run> run(String rule) {
+            return runs.stream().filter(run -> run.rule().equals(rule)).findFirst();
+        }
+    }
+
+    private record Group(Grid board, long population, int[] members) {}
+
+    private record Outcome(int[] members, Callable<Grid> next) {}
+
+    private RuleBatch() {}
+
+    public static Report run(Grid seed, List<String> rules, int generations, Executor executor)
+            throws InterruptedException, ExecutionException {
+        var parsed = new LinkedHashMap<String, GameRules>();
+        rules.forEach(rule -> parsed.put(rule, GameRules.parse(rule)));
+        return run(seed, parsed, generations, executor);
+    }
+
+    // Rules run in the map's iteration order; the seed itself is not modified
+    public static Report run(Grid seed, Map<String, GameRules> rules, int generations, Executor executor)
+            throws InterruptedException, ExecutionException {
+        if (rules.isEmpty()) {
+            throw new IllegalArgumentException("Need at least one rule");
+        }
+        if (generations < 0) {
+            throw new IllegalArgumentException("Generation count cannot be negative: " + generations);
+        }
+        if (seed.getStorageMode() == StorageMode.TILED) {
+            // Every group keeps its own board and comparisons scan whole boards: no spill budget holds
+            throw new IllegalArgumentException("Tiled seeds are not supported; copy the seed to dense or sparse storage");
+        }
+        var names = List.copyOf(rules.keySet());
+        var ruleList = List.copyOf(rules.values());
+        var populations = new long[names.size()][generations + 1];
+        var divergedAt = new int[names.size()];
+        Arrays.fill(divergedAt, -1);
+
+        var start = seed.copy();
+        var groups = List.of(new Group(start, start.population(), allMembers(names.size())));
+        record(groups, 0, populations, divergedAt);
+        long boardsComputed = 0;
+
+        for (int generation = 1; generation <= generations; generation++) {
+            var planned = new ArrayList<CompletableFuture<List<Outcome>>>();
+            for (var group : groups) {
+                planned.add(CompletableFuture.supplyAsync(() -> plan(group, ruleList), executor));
+            }
+            var outcomes = new ArrayList<Outcome>();
+            for (var plan : planned) {
+                outcomes.addAll(plan.get());
+            }
+            var boards = new ArrayList<CompletableFuture<Grid>>();
+            for (var outcome : outcomes) {
+                boards.add(CompletableFuture.supplyAsync(() -> call(outcome.next()), executor));
+            }
+            var next = new ArrayList<Group>();
+            for (int i = 0; i < outcomes.size(); i++) {
+                var board = boards.get(i).get();
+                next.add(new Group(board, board.population(), outcomes.get(i).members()));
+            }
+            boardsComputed += outcomes.size();
+            groups = merge(next);
+            record(groups, generation, populations, divergedAt);
+        }
+
+        var runs = new ArrayList<Run>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            runs.add(new Run(names.get(i), populations[i], divergedAt[i]));
+        }
+        return new Report(generations, List.copyOf(runs), boardsComputed);
+    }
+
+    private static int[] allMembers(int count) {
+        var members = new int[count];
+        Arrays.setAll(members, i -> i);
+        return members;
+    }
+
+    private static void record(List<Group> groups, int generation, long[][] populations, int[] divergedAt) {
+        for (var group : groups) {
+            for (int member : group.members()) {
+                populations[member][generation] = group.population();
+            }
+            if (group.members().length == 1 && divergedAt[group.members()[0]] < 0) {
+                divergedAt[group.members()[0]] = generation;
+            }
+        }
+    }
+
+    private static Grid call(Callable<Grid> next) {
+        try {
+            return next.call();
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    // Splits a group's rules by the board they will produce, deferring the boards themselves
+    private static List<Outcome> plan(Group group, List<GameRules> rules) {
+        var board = group.board();
+        var lifeLike = Arrays.stream(group.members())
+            .filter(member -> BitKernel.supports(rules.get(member)))
+            .toArray();
+        var outcomes = new ArrayList<Outcome>();
+        Arrays.stream(group.members())
+            .filter(member -> !BitKernel.supports(rules.get(member)))
+            .forEach(member -> outcomes.add(new Outcome(new int[] {member},
+                () -> board.evolveWith(rules.get(member), Runnable::run))));
+
+        var bounded = board.getTopology().isBounded();
+        if (bounded && lifeLike.length < PLANE_MIN_RULES) {
+            for (int member : lifeLike) {
+                var birth = BitKernel.birthMask(rules.get(member));
+                var survival = BitKernel.survivalMask(rules.get(member));
+                outcomes.add(new Outcome(new int[] {member}, () -> wrap(board, step(board, birth, survival))));
+            }
+            return outcomes;
+        }
+        if (lifeLike.length == 0) {
+            return outcomes;
+        }
+
+        long[][] planes = bounded ? countPlanes(board) : null;
+        var present = bounded ? presentClasses(board, planes) : presentClasses(board);
+        // Rules that agree on every occurring (state, count) pair produce the same board
+        var byOutcome = Arrays.stream(lifeLike).boxed().collect(Collectors.groupingBy(member ->
+            (BitKernel.birthMask(rules.get(member)) & present) |
+                (BitKernel.survivalMask(rules.get(member)) << 9 & present),
+            LinkedHashMap::new, Collectors.toList()));
+        for (var members : byOutcome.values()) {
+            var representative = rules.get(members.getFirst());
+            var memberArray = members.stream().mapToInt(Integer::intValue).toArray();
+            outcomes.add(new Outcome(memberArray, bounded ?
+                () -> wrap(board, combine(board, planes,
+                    BitKernel.birthMask(representative), BitKernel.survivalMask(representative))) :
+                () -> board.evolveWith(representative, Runnable::run)));
+        }
+        return outcomes;
+    }
+
+    private static Grid wrap(Grid board, long[] words) {
+        return Grid.fromWords(board.getRows(), board.getCols(), board.getBoundary(), board.getTopology(), words);
+    }
+
+    private static long[] step(Grid board, int birth, int survival) {
+        var rows = board.getRows();
+        var topology = board.getTopology();
+        var view = new BitKernel.Rows(board.denseWords(), board.getCols(), topology);
+        var wordsPerRow = view.wordsPerRow();
+        var next = new long[rows * wordsPerRow];
+        for (int row = 0; row < rows; row++) {
+            var above = topology.wrapRow(row - 1);
+            var below = topology.wrapRow(row + 1);
+            for (int w = 0; w < wordsPerRow; w++) {
+                next[row * wordsPerRow + w] = view.step(above, row, below, w, birth, survival);
+            }
+        }
+        return next;
+    }
+
+    // planes[k] holds bit k of every cell's neighbor count: a step whose rule is "alive iff bit k
+    // of the count is set", whatever the cell's own state
+    private static long[][] countPlanes(Grid board) {
+        var planes = new long[4][];
+        for (int bit = 0; bit < 4; bit++) {
+            var mask = 0;
+            for (int count = 0; count <= 8; count++) {
+                mask |= ((count >> bit) & 1) << count;
+            }
+            planes[bit] = step(board, mask, mask);
+        }
+        return planes;
+    }
+
+    // Low 9 bits: counts seen around dead cells; next 9 bits: counts seen around live cells
+    private static int presentClasses(Grid board, long[][] planes) {
+        var words = board.denseWords();
+        var wordsPerRow = (board.getCols() + 63) >>> 6;
+        var lastMask = -1L >>> (63 - ((board.getCols() - 1) & 63));
+        var present = 0;
+        for (int i = 0; i < words.length && present != (1 << 18) - 1; i++) {
+            var valid = i % wordsPerRow == wordsPerRow - 1 ? lastMask : -1L;
+            for (int count = 0; count <= 8; count++) {
+                var matched = BitKernel.matching(planes[0][i], planes[1][i], planes[2][i], planes[3][i], 1 << count)
+                    & valid;
+                if ((matched & ~words[i]) != 0) {
+                    present |= 1 << count;
+                }
+                if ((matched & words[i]) != 0) {
+                    present |= 1 << (9 + count);
+                }
+            }
+        }
+        return present;
+    }
+
+    // Unbounded boards: the cells evolveWith evaluates, live cells and their neighbors
+    private static int presentClasses(Grid board) {
+        var present = 0;
+        for (var cell : board.getLiveCells()) {
+            present |= 1 << (9 + board.countLiveNeighbors(cell));
+            for (var neighbor : board.getNeighbors(cell)) {
+                if (!board.getCellState(neighbor).isAlive()) {
+                    present |= 1 << board.countLiveNeighbors(neighbor);
+                }
+            }
+        }
+        return present;
+    }
+
+    private static long[] combine(Grid board, long[][] planes, int birth, int survival) {
+        var words = board.denseWords();
+        var wordsPerRow = (board.getCols() + 63) >>> 6;
+        var lastMask = -1L >>> (63 - ((board.getCols() - 1) & 63));
+        var next = new long[words.length];
+        for (int i = 0; i < words.length; i++) {
+            var s0 = planes[0][i];
+            var s1 = planes[1][i];
+            var s2 = planes[2][i];
+            var s3 = planes[3][i];
+            var valid = i % wordsPerRow == wordsPerRow - 1 ? lastMask : -1L;
+            next[i] = ((words[i] & BitKernel.matching(s0, s1, s2, s3, survival)) |
+                (~words[i] & BitKernel.matching(s0, s1, s2, s3, birth))) & valid;
+        }
+        return next;
+    }
+
+    // Runs that landed on the same board share it from here on
+    private static List<Group> merge(List<Group> groups) {
+        var merged = new ArrayList<Group>();
+        var byPopulation = new HashMap<Long, List<Integer>>();
+        for (var group : groups) {
+            var candidates = byPopulation.computeIfAbsent(group.population(), _ -> new ArrayList<>());
+            var match = candidates.stream()
+                .filter(index -> merged.get(index).board().equals(group.board()))
+                .findFirst();
+            if (match.isPresent()) {
+                var existing = merged.get(match.get());
+                var members = Arrays.copyOf(existing.members(), existing.members().length + group.members().length);
+                System.arraycopy(group.members(), 0, members, existing.members().length, group.members().length);
+                merged.set(match.get(), new Group(existing.board(), existing.population(), members));
+            } else {
+                candidates.add(merged.size());
+                merged.add(group);
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.gameoflife;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// Reader for logs written by RunRecorder. gridAt() seeks to the nearest keyframe at or before the
+// target and applies at most one keyframe interval of deltas, instead of re-running the rule from
+// the start. A log whose recorder never closed (a crash, a run still in progress) has no trailer;
+// its keyframes are found by scanning the frame headers, and a torn final frame is ignored.
+public final class RunLog implements AutoCloseable {
+    private static final int MAX_HEADER_BYTES = 2 * (0xFFFF + 2) + 32;
+    // Enough payload to decode a frame's leading generation varint
+    private static final int GENERATION_PREFIX_BYTES = 10;
+
+    private final FileChannel channel;
+    private final int rows;
+    private final int cols;
+    private final BoundaryCondition boundary;
+    private final String rule;
+    private final long seed;
+    private final int keyframeInterval;
+    private final long framesEnd;
+    private final int lastGeneration;
+    private final int[] keyframeGenerations;
+    private final long[] keyframeOffsets;
+
+    private RunLog(FileChannel channel) throws IOException {
+        this.channel = channel;
+        var size = channel.size();
+        var header = read(0, (int) Math.min(size, MAX_HEADER_BYTES), false);
+        try {
+            if (header.getInt() != RunRecorder.MAGIC || header.get() != RunRecorder.VERSION) {
+                throw new IOException("Not a run log");
+            }
+            rows = header.getInt();
+            cols = header.getInt();
+            boundary = BoundaryCondition.parse(readString(header));
+            rule = readString(header);
+            seed = header.getLong();
+            keyframeInterval = header.getInt();
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Corrupt run log header", e);
+        }
+        var framesStart = (long) header.position();
+
+        var indexOffset = trailerIndexOffset(framesStart, size);
+        if (indexOffset >= 0) {
+            var frame = read(indexOffset, RunRecorder.FRAME_HEADER_BYTES, true);
+            var index = read(indexOffset + RunRecorder.FRAME_HEADER_BYTES, frame.getInt(1), true);
+            framesEnd = indexOffset;
+            lastGeneration = index.getInt();
+            keyframeGenerations = new int[index.getInt()];
+            keyframeOffsets = new long[keyframeGenerations.length];
+            for (int i = 0; i < keyframeGenerations.length; i++) {
+                keyframeGenerations[i] = index.getInt();
+                keyframeOffsets[i] = index.getLong();
+            }
+        } else {
+            var generations = new int[16];
+            var offsets = new long[16];
+            var count = 0;
+            var last = 0;
+            var position = framesStart;
+            while (position + RunRecorder.FRAME_HEADER_BYTES <= size) {
+                var frame = read(position, RunRecorder.FRAME_HEADER_BYTES, true);
+                var kind = frame.get();
+                var length = frame.getInt();
+                if (kind == RunRecorder.INDEX || length < 0 || position + RunRecorder.FRAME_HEADER_BYTES + length > size) {
+                    break;
+                }
+                var payload = read(position + RunRecorder.FRAME_HEADER_BYTES,
+                    Math.min(length, GENERATION_PREFIX_BYTES), true);
+                last = (int) DeltaCodec.readVarLong(payload);
+                if (kind == RunRecorder.KEYFRAME) {
+                    if (count == offsets.length) {
+                        generations = Arrays.copyOf(generations, 2 * count);
+                        offsets = Arrays.copyOf(offsets, 2 * count);
+                    }
+                    generations[count] = last;
+                    offsets[count++] = position;
+                }
+                position += RunRecorder.FRAME_HEADER_BYTES + length;
+            }
+            if (count == 0) {
+                throw new IOException("Run log has no complete keyframe");
+            }
+            framesEnd = position;
+            lastGeneration = last;
+            keyframeGenerations = Arrays.copyOf(generations, count);
+            keyframeOffsets = Arrays.copyOf(offsets, count);
+        }
+    }
+
+    public static RunLog open(Path path) throws IOException {
+        var channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new RunLog(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // -1 when the log was not closed cleanly
+    private long trailerIndexOffset(long framesStart, long size) throws IOException {
+        if (size < framesStart + RunRecorder.TRAILER_BYTES) {
+            return -1;
+        }
+        var trailer = read(size - RunRecorder.TRAILER_BYTES, RunRecorder.TRAILER_BYTES, true);
+        var offset = trailer.getLong();
+        var valid = trailer.getInt() == RunRecorder.TRAILER_MAGIC && offset >= framesStart &&
+            offset + RunRecorder.FRAME_HEADER_BYTES <= size - RunRecorder.TRAILER_BYTES;
+        return valid ? offset : -1;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        var bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private ByteBuffer read(long position, int length, boolean exact) throws IOException {
+        var buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                if (exact) {
+                    throw new EOFException("Run log ends at " + (position + buffer.position()));
+                }
+                break;
+            }
+        }
+        return buffer.flip();
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+    public BoundaryCondition getBoundary() { return boundary; }
+    public String getRule() { return rule; }
+    public long getSeed() { return seed; }
+    public int getKeyframeInterval() { return keyframeInterval; }
+    public int getFirstGeneration() { return keyframeGenerations[0]; }
+    public int getLastGeneration() { return lastGeneration; }
+
+    public GameRules rules() {
+        return GameRules.parse(rule);
+    }
+
+    public Grid gridAt(int generation) throws IOException {
+        if (generation < getFirstGeneration() || generation > lastGeneration) {
+            throw new IllegalArgumentException("Generation %d is outside the log (%d..%d)"
+                .formatted(generation, getFirstGeneration(), lastGeneration));
+        }
+        var found = Arrays.binarySearch(keyframeGenerations, generation);
+        var keyframe = found >= 0 ? found : -found - 2;
+        var start = keyframeOffsets[keyframe];
+        var end = keyframe + 1 < keyframeOffsets.length ? keyframeOffsets[keyframe + 1] : framesEnd;
+        var frames = read(start, (int) (end - start), true);
+
+        Grid grid = null;
+        while (frames.hasRemaining()) {
+            var kind = frames.get();
+            var length = frames.getInt();
+            var delta = DeltaCodec.decode(frames.slice(frames.position(), length));
+            frames.position(frames.position() + length);
+            if (kind == RunRecorder.KEYFRAME) {
+                grid = new Grid(rows, cols, boundary);
+            }
+            delta.applyTo(grid);
+            if (delta.generation() == generation) {
+                return grid;
+            }
+        }
+        throw new IOException("Generation %d is missing from the log".formatted(generation));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
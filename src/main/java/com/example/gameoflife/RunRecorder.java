@@ -0,0 +1,247 @@
+package com.example.gameoflife;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+
+// Append-only log of a run, read back by RunLog. Layout: a header (rule, boundary, seed, board
+// size), then one frame per generation - a DeltaCodec delta, or every keyframeInterval generations
+// the whole board as births - and on close an index of keyframe offsets plus a fixed-size trailer
+// pointing at it. Frames are encoded on the evolving thread into one of two direct buffers; a
+// background thread writes the full buffer to the FileChannel while the other one fills.
+// Nothing is thrown into the evolving thread: the first failure stops recording and is rethrown
+// by flush() and close(), and frames after close() are ignored.
+public final class RunRecorder implements GenerationListener, AutoCloseable {
+    static final int MAGIC = 0x474F4C52;
+    static final int TRAILER_MAGIC = 0x474F4C49;
+    static final byte VERSION = 1;
+    static final byte DELTA = 0;
+    static final byte KEYFRAME = 1;
+    static final byte INDEX = 2;
+    static final int FRAME_HEADER_BYTES = 5;
+    static final int TRAILER_BYTES = 12;
+    private static final int DEFAULT_KEYFRAME_INTERVAL = 256;
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    private final FileChannel channel;
+    private final int keyframeInterval;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor();
+    private final BlockingQueue<ByteBuffer> spare = new ArrayBlockingQueue<>(1);
+    private ByteBuffer active;
+    // First problem seen, rethrown by flush() and close(); writeFailed also stops the writer
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+    private volatile boolean writeFailed;
+    // File offset of the next byte appended
+    private long position;
+    private int lastGeneration;
+    private int lastKeyframe;
+    private int[] keyframeGenerations = new int[16];
+    private long[] keyframeOffsets = new long[16];
+    private int keyframes;
+    private boolean closed;
+
+    public RunRecorder(Path path, GenerationSnapshot start, String rule, long seed) throws IOException {
+        this(path, start, rule, seed, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    // The seed is recorded as given; it is whatever produced the starting board
+    public RunRecorder(Path path, GenerationSnapshot start, String rule, long seed, int keyframeInterval)
+            throws IOException {
+        Objects.requireNonNull(start, "Start snapshot cannot be null");
+        if (keyframeInterval <= 0) {
+            throw new IllegalArgumentException("Keyframe interval must be positive: " + keyframeInterval);
+        }
+        GameRules.parse(rule);
+        var ruleBytes = rule.getBytes(StandardCharsets.UTF_8);
+        var boundaryBytes = start.getBoundary().name().getBytes(StandardCharsets.UTF_8);
+        if (ruleBytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Rule string too long: " + ruleBytes.length + " bytes");
+        }
+        this.keyframeInterval = keyframeInterval;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+        this.active = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        spare.add(ByteBuffer.allocateDirect(BUFFER_BYTES));
+
+        active.putInt(MAGIC).put(VERSION)
+            .putInt(start.getRows()).putInt(start.getCols())
+            .putShort((short) boundaryBytes.length).put(boundaryBytes)
+            .putShort((short) ruleBytes.length).put(ruleBytes)
+            .putLong(seed).putInt(keyframeInterval);
+        position = active.position();
+        try {
+            keyframe(start.generation(), start.grid());
+        } catch (InterruptedException e) {
+            // Not expected: the spare buffer is still free while the first keyframe is written
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while writing the first keyframe");
+        }
+    }
+
+    @Override
+    public synchronized void onGeneration(GenerationDelta delta, Grid grid) {
+        if (closed || failure.get() != null) {
+            return;
+        }
+        if (delta.generation() != lastGeneration + 1) {
+            // e.g. after a rewind; the log stays valid up to the last generation recorded
+            failure.compareAndSet(null, new IOException("Expected generation %d but got %d; recording stopped"
+                .formatted(lastGeneration + 1, delta.generation())));
+            return;
+        }
+        try {
+            if (delta.generation() - lastKeyframe >= keyframeInterval) {
+                keyframe(delta.generation(), grid);
+            } else {
+                append(DELTA, DeltaCodec.encode(delta));
+                lastGeneration = delta.generation();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, new InterruptedIOException("Interrupted while waiting for the log writer"));
+        }
+    }
+
+    private void keyframe(int generation, Grid grid) throws InterruptedException {
+        var live = LongStream.builder();
+        grid.store().forEachLive((row, col) -> live.add(Cell.of(row, col).pack()));
+        if (keyframes == keyframeOffsets.length) {
+            keyframeGenerations = Arrays.copyOf(keyframeGenerations, 2 * keyframes);
+            keyframeOffsets = Arrays.copyOf(keyframeOffsets, 2 * keyframes);
+        }
+        var offset = position;
+        append(KEYFRAME, DeltaCodec.encode(new GenerationDelta(generation, live.build().toArray(), new long[0])));
+        // Indexed only once the frame is in a buffer
+        keyframeGenerations[keyframes] = generation;
+        keyframeOffsets[keyframes++] = offset;
+        lastGeneration = generation;
+        lastKeyframe = generation;
+    }
+
+    private void append(byte kind, byte[] payload) throws InterruptedException {
+        var size = FRAME_HEADER_BYTES + payload.length;
+        if (active.remaining() < size) {
+            handOff();
+        }
+        if (active.remaining() < size) {
+            // Larger than a whole buffer: written on its own, in order behind the buffer before it
+            var frame = ByteBuffer.allocate(size).put(kind).putInt(payload.length).put(payload).flip();
+            writer.execute(() -> drain(frame));
+        } else {
+            active.put(kind).putInt(payload.length).put(payload);
+        }
+        position += size;
+    }
+
+    // Queues the filled buffer for writing and continues in the other one, waiting only if the
+    // writer has not finished with it yet. The spare is taken first, so the writer can never
+    // return a buffer while the queue still holds the other one, and an interrupt leaves the
+    // active buffer untouched.
+    private void handOff() throws InterruptedException {
+        if (active.position() == 0) {
+            return;
+        }
+        var next = spare.take();
+        var full = active.flip();
+        writer.execute(() -> {
+            drain(full);
+            spare.add(full.clear());
+        });
+        active = next;
+    }
+
+    private void drain(ByteBuffer buffer) {
+        if (writeFailed) {
+            return;
+        }
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            writeFailed = true;
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    private void rethrowFailure() throws IOException {
+        var first = failure.get();
+        if (first != null) {
+            throw first;
+        }
+    }
+
+    // Everything recorded so far is on disk when this returns
+    public synchronized void flush() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            handOff();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while flushing the log");
+        }
+        await(writer.submit(() -> {
+            channel.force(false);
+            return null;
+        }));
+        rethrowFailure();
+    }
+
+    private static void await(Future<?> future) throws IOException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException io ? io : new IOException("Log writer failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while flushing the log", e);
+        }
+    }
+
+    public synchronized int getLastGeneration() {
+        return lastGeneration;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            var indexOffset = position;
+            var index = ByteBuffer.allocate(8 + 12 * keyframes).putInt(lastGeneration).putInt(keyframes);
+            for (int i = 0; i < keyframes; i++) {
+                index.putInt(keyframeGenerations[i]).putLong(keyframeOffsets[i]);
+            }
+            append(INDEX, index.array());
+            if (active.remaining() < TRAILER_BYTES) {
+                handOff();
+            }
+            active.putLong(indexOffset).putInt(TRAILER_MAGIC);
+            handOff();
+            await(writer.submit(() -> {
+                channel.force(false);
+                return null;
+            }));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while closing the log");
+        } finally {
+            writer.shutdown();
+            channel.close();
+        }
+        rethrowFailure();
+    }
+}
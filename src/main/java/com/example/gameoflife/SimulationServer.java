@@ -0,0 +1,282 @@
+package com.example.gameoflife;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Headless HTTP front end: runs are created, stepped and streamed as length-prefixed DeltaCodec frames
+public class SimulationServer implements AutoCloseable {
+    private static final int DEFAULT_SIZE = 64;
+    // 4096x4096: about 2 MiB of dense storage per board
+    public static final long DEFAULT_MAX_CELLS = 4096L * 4096;
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, SimulationSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+    private final double stepsPerSecond;
+    private final int burst;
+    private final long maxCells;
+    private final int maxBodyBytes;
+
+    public SimulationServer(InetSocketAddress address, double stepsPerSecond, int burst) throws IOException {
+        this(address, stepsPerSecond, burst, DEFAULT_MAX_CELLS);
+    }
+
+    // maxCells caps rows * cols of every board a client can create
+    public SimulationServer(InetSocketAddress address, double stepsPerSecond, int burst, long maxCells)
+            throws IOException {
+        if (maxCells <= 0) {
+            throw new IllegalArgumentException("Board size limit must be positive: " + maxCells);
+        }
+        this.stepsPerSecond = stepsPerSecond;
+        this.burst = burst;
+        this.maxCells = maxCells;
+        // A board within the limit needs at most one character per cell plus a CRLF per row
+        this.maxBodyBytes = (int) Math.min(Integer.MAX_VALUE - 8, Math.min(maxCells, Integer.MAX_VALUE) * 3);
+        new RateLimiter(stepsPerSecond, burst); // validates the limits up front
+        this.server = HttpServer.create(address, 0);
+        server.setExecutor(executor);
+        server.createContext("/runs", this::handle);
+    }
+
+    public static SimulationServer start(int port, double stepsPerSecond, int burst) throws IOException {
+        return start(port, stepsPerSecond, burst, DEFAULT_MAX_CELLS);
+    }
+
+    public static SimulationServer start(int port, double stepsPerSecond, int burst, long maxCells)
+            throws IOException {
+        var simulationServer = new SimulationServer(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), port), stepsPerSecond, burst, maxCells);
+        simulationServer.server.start();
+        return simulationServer;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            var parts = exchange.getRequestURI().getPath().split("/");
+            var method = exchange.getRequestMethod();
+            var query = parseQuery(exchange.getRequestURI().getRawQuery());
+            // parts: ["", "runs", id?, action?]
+            switch (parts.length) {
+                case 2 -> {
+                    if (allowed(exchange, method, "POST")) {
+                        create(exchange, query);
+                    }
+                }
+                case 3 -> {
+                    if (method.equals("DELETE")) {
+                        var session = sessions.remove(parts[2]);
+                        if (session == null) {
+                            throw new NoSuchElementException("Unknown run: " + parts[2]);
+                        }
+                        session.close();
+                        respond(exchange, 204, "");
+                    } else if (allowed(exchange, method, "GET")) {
+                        respond(exchange, 200, session(parts[2]).statusJson());
+                    }
+                }
+                case 4 -> action(exchange, method, session(parts[2]), parts[3], query);
+                default -> respond(exchange, 404, error("Not found"));
+            }
+        } catch (NoSuchElementException e) {
+            respond(exchange, 404, error(e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            respond(exchange, 400, error(e.getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 503, error("Interrupted"));
+        } catch (ExecutionException | TimeoutException | RuntimeException e) {
+            respond(exchange, 500, error(String.valueOf(e.getMessage())));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void action(HttpExchange exchange, String method, SimulationSession session,
+                        String action, Map<String, String> query)
+            throws IOException, InterruptedException, ExecutionException, TimeoutException {
+        var expected = switch (action) {
+            case "step", "run", "pause" -> "POST";
+            case "frames" -> "GET";
+            default -> null;
+        };
+        if (expected != null && !allowed(exchange, method, expected)) {
+            return;
+        }
+        switch (action) {
+            case "step" -> {
+                var count = intParam(query, "count", 1);
+                if (count <= 0) {
+                    throw new IllegalArgumentException("Step count must be positive: " + count);
+                }
+                if (!session.tryAcquire(count)) {
+                    exchange.getResponseHeaders().set("Retry-After", "1");
+                    respond(exchange, 429, error("Rate limit exceeded"));
+                    return;
+                }
+                session.step(count);
+                respond(exchange, 200, session.statusJson());
+            }
+            case "run" -> {
+                session.run(doubleParam(query, "rate", stepsPerSecond), executor);
+                respond(exchange, 200, session.statusJson());
+            }
+            case "pause" -> {
+                session.pause();
+                respond(exchange, 200, session.statusJson());
+            }
+            case "frames" -> stream(exchange, session);
+            default -> respond(exchange, 404, error("Unknown action: " + action));
+        }
+    }
+
+    private void create(HttpExchange exchange, Map<String, String> query) throws IOException {
+        var boundary = BoundaryCondition.parse(query.getOrDefault("boundary", "fixed"));
+        var rules = GameRules.parse(query.getOrDefault("rule", "conway"));
+        var bytes = exchange.getRequestBody().readNBytes(maxBodyBytes + 1);
+        if (bytes.length > maxBodyBytes) {
+            throw new IllegalArgumentException("Request body exceeds %d bytes".formatted(maxBodyBytes));
+        }
+        var body = new String(bytes, StandardCharsets.UTF_8).trim();
+
+        Grid grid;
+        if (!body.isEmpty()) {
+            // Sized the way Grid(String) sizes it, and checked before that allocates
+            var rows = body.lines().count();
+            var cols = body.lines().findFirst().orElse("").length();
+            requireWithinLimit(rows, cols);
+            grid = new Grid(body, boundary);
+        } else {
+            var rows = intParam(query, "rows", DEFAULT_SIZE);
+            var cols = intParam(query, "cols", DEFAULT_SIZE);
+            // Checked before allocating: the board's storage is sized by these alone
+            requireWithinLimit(rows, cols);
+            grid = new Grid(rows, cols, boundary);
+            var density = doubleParam(query, "density", 0.0);
+            if (density > 0) {
+                grid.randomFill(density, Long.parseLong(query.getOrDefault("seed", "0")));
+            }
+            if (query.containsKey("pattern")) {
+                var pattern = Pattern.valueOf(query.get("pattern").toUpperCase(Locale.ROOT));
+                var bitmap = pattern.bitmap();
+                pattern.stamp(grid, (grid.getRows() - bitmap.getHeight()) / 2,
+                    (grid.getCols() - bitmap.getWidth()) / 2, Transform.IDENTITY, StampMode.OR);
+            }
+        }
+
+        var id = Long.toString(nextId.incrementAndGet());
+        var session = new SimulationSession(id, grid, rules, new RateLimiter(stepsPerSecond, burst));
+        sessions.put(id, session);
+        respond(exchange, 201, session.statusJson());
+    }
+
+    private void requireWithinLimit(long rows, long cols) {
+        if (rows * cols > maxCells) {
+            throw new IllegalArgumentException(
+                "Board too large: %dx%d exceeds %d cells".formatted(rows, cols, maxCells));
+        }
+    }
+
+    private static void stream(HttpExchange exchange, SimulationSession session) throws IOException {
+        var queue = session.subscribe();
+        exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (var out = new DataOutputStream(exchange.getResponseBody())) {
+            while (true) {
+                var frame = queue.take();
+                if (frame == SimulationSession.END_OF_STREAM) {
+                    return;
+                }
+                out.writeInt(frame.length);
+                out.write(frame);
+                if (queue.isEmpty()) {
+                    out.flush();
+                }
+            }
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        } finally {
+            session.unsubscribe(queue);
+        }
+    }
+
+    private SimulationSession session(String id) {
+        var session = sessions.get(id);
+        if (session == null) {
+            throw new NoSuchElementException("Unknown run: " + id);
+        }
+        return session;
+    }
+
+    // Answers 405 itself when the method does not match; the caller handles the request otherwise
+    private static boolean allowed(HttpExchange exchange, String actual, String expected) throws IOException {
+        if (actual.equals(expected)) {
+            return true;
+        }
+        respond(exchange, 405, error("Expected " + expected + " but got " + actual));
+        return false;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        var bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            exchange.getResponseBody().write(bytes);
+        }
+    }
+
+    private static String error(String message) {
+        return "{\"error\":\"%s\"}".formatted(message.replace("\\", "\\\\").replace("\"", "\\\""));
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        var params = new HashMap<String, String>();
+        if (rawQuery != null) {
+            for (var pair : rawQuery.split("&")) {
+                var split = pair.indexOf('=');
+                if (split > 0) {
+                    params.put(URLDecoder.decode(pair.substring(0, split), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(split + 1), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return params;
+    }
+
+    private static int intParam(Map<String, String> query, String name, int defaultValue) {
+        return query.containsKey(name) ? Integer.parseInt(query.get(name)) : defaultValue;
+    }
+
+    private static double doubleParam(Map<String, String> query, String name, double defaultValue) {
+        return query.containsKey(name) ? Double.parseDouble(query.get(name)) : defaultValue;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        sessions.values().forEach(SimulationSession::close);
+        sessions.clear();
+        executor.shutdownNow();
+    }
+}
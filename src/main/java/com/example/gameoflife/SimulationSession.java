@@ -0,0 +1,121 @@
+package com.example.gameoflife;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+// One server-side run: a GameOfLife plus its subscribers and optional free-running loop
+final class SimulationSession implements GenerationListener, AutoCloseable {
+    static final byte[] END_OF_STREAM = new byte[0];
+    private static final int SUBSCRIBER_BACKLOG = 1024;
+
+    private final String id;
+    private final GameOfLife game;
+    private final RateLimiter limiter;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<BlockingQueue<byte[]>> subscribers = new CopyOnWriteArrayList<>();
+    private Future<?> freeRun;
+
+    SimulationSession(String id, Grid grid, GameRules rules, RateLimiter limiter) {
+        this.id = id;
+        this.game = new GameOfLife(grid, rules);
+        this.limiter = limiter;
+        game.addListener(this);
+    }
+
+    @Override
+    public void onGeneration(GenerationDelta delta, Grid grid) {
+        var frame = DeltaCodec.encode(delta);
+        for (var queue : subscribers) {
+            if (!queue.offer(frame)) {
+                // A subscriber that cannot keep up is cut off rather than stalling the run
+                subscribers.remove(queue);
+                queue.clear();
+                queue.offer(END_OF_STREAM);
+            }
+        }
+    }
+
+    boolean tryAcquire(int steps) {
+        return limiter.tryAcquire(steps);
+    }
+
+    int step(int steps) throws InterruptedException, ExecutionException, TimeoutException {
+        lock.lockInterruptibly();
+        try {
+            game.evolve(steps);
+            return game.getGeneration();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // The first frame is the full board as births, so clients can start from an empty grid
+    BlockingQueue<byte[]> subscribe() {
+        lock.lock();
+        try {
+            var queue = new LinkedBlockingQueue<byte[]>(SUBSCRIBER_BACKLOG);
+            var snapshot = game.getSnapshot();
+            var live = snapshot.getLiveCells().stream().mapToLong(Cell::pack).toArray();
+            queue.add(DeltaCodec.encode(new GenerationDelta(snapshot.generation(), live, new long[0])));
+            subscribers.add(queue);
+            return queue;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void unsubscribe(BlockingQueue<byte[]> queue) {
+        subscribers.remove(queue);
+    }
+
+    synchronized void run(double stepsPerSecond, ExecutorService executor) {
+        pause();
+        var pacer = new RateLimiter(stepsPerSecond, 1);
+        freeRun = executor.submit(() -> {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    pacer.acquire();
+                    limiter.acquire();
+                    step(1);
+                }
+            } catch (InterruptedException _) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException _) {
+                // The run stops; its state stays at the last completed generation
+            }
+            return null;
+        });
+    }
+
+    synchronized void pause() {
+        if (freeRun != null) {
+            freeRun.cancel(true);
+            freeRun = null;
+        }
+    }
+
+    synchronized boolean isRunning() {
+        return freeRun != null && !freeRun.isDone();
+    }
+
+    // Reads the published snapshot, so status requests never wait behind a step in progress
+    String statusJson() {
+        var snapshot = game.getSnapshot();
+        return """
+            {"id":"%s","rows":%d,"cols":%d,"generation":%d,"population":%d,"running":%b}"""
+            .formatted(id, snapshot.getRows(), snapshot.getCols(), snapshot.generation(),
+                snapshot.population(), isRunning());
+    }
+
+    @Override
+    public void close() {
+        pause();
+        subscribers.forEach(queue -> {
+            queue.clear();
+            queue.offer(END_OF_STREAM);
+        });
+        subscribers.clear();
+        game.close();
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.gameoflife;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+final class SparseCellStore implements CellStore {
+    private final Set<Cell> live;
+
+    SparseCellStore() {
+        this(ConcurrentHashMap.newKeySet());
+    }
+
+    private SparseCellStore(Set<Cell> live) {
+        this.live = live;
+    }
+
+    @Override
+    public boolean get(int row, int col) {
+        return live.contains(Cell.of(row, col));
+    }
+
+    @Override
+    public void set(int row, int col, boolean alive) {
+        if (alive) {
+            live.add(Cell.of(row, col));
+        } else {
+            live.remove(Cell.of(row, col));
+        }
+    }
+
+    @Override
+    public long population() {
+        return live.size();
+    }
+
+    @Override
+    public void forEachLive(CellVisitor visitor) {
+        live.forEach(cell -> visitor.visit(cell.row(), cell.col()));
+    }
+
+    @Override
+    public Stream<Cell> liveCellsIn(int top, int left, int height, int width) {
+        if ((long) height * width < live.size()) {
+            // Small viewport over a busy board: probe its coordinates instead of scanning every live cell
+            return IntStream.range(top, top + height).boxed()
+                .flatMap(row -> IntStream.range(left, left + width).mapToObj(col -> Cell.of(row, col)))
+                .filter(live::contains);
+        }
+        return live.stream().filter(cell -> contains(cell, top, left, height, width));
+    }
+
+    @Override
+    public long populationIn(int top, int left, int height, int width) {
+        if ((long) height * width < live.size()) {
+            long count = 0;
+            for (int row = top; row < top + height; row++) {
+                for (int col = left; col < left + width; col++) {
+                    if (live.contains(Cell.of(row, col))) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+        return live.stream().filter(cell -> contains(cell, top, left, height, width)).count();
+    }
+
+    private static boolean contains(Cell cell, int top, int left, int height, int width) {
+        return cell.row() >= top && cell.row() - top < height &&
+            cell.col() >= left && cell.col() - left < width;
+    }
+
+    @Override
+    public void fill(int top, int left, int height, int width, boolean alive) {
+        if (!alive && (long) height * width > live.size()) {
+            // Cheaper to scan the live cells than every coordinate in a large region
+            live.removeIf(cell -> contains(cell, top, left, height, width));
+            return;
+        }
+        for (int row = top; row < top + height; row++) {
+            for (int col = left; col < left + width; col++) {
+                set(row, col, alive);
+            }
+        }
+    }
+
+    @Override
+    public long[] exportRow(int row, int cols) {
+        var words = new long[(cols + 63) >>> 6];
+        if (live.size() < cols) {
+            live.forEach(cell -> {
+                if (cell.row() == row && cell.col() >= 0 && cell.col() < cols) {
+                    words[cell.col() >>> 6] |= 1L << cell.col();
+                }
+            });
+        } else {
+            for (int col = 0; col < cols; col++) {
+                if (get(row, col)) {
+                    words[col >>> 6] |= 1L << col;
+                }
+            }
+        }
+        return words;
+    }
+
+    @Override
+    public void importRow(int row, long[] words, int cols) {
+        for (int col = 0; col < cols; col++) {
+            set(row, col, (col >>> 6) < words.length && (words[col >>> 6] & (1L << col)) != 0);
+        }
+    }
+
+    @Override
+    public CellStore copy() {
+        var copy = ConcurrentHashMap.<Cell>newKeySet(live.size());
+        copy.addAll(live);
+        return new SparseCellStore(copy);
+    }
+
+    @Override
+    public CellStore empty() {
+        return new SparseCellStore();
+    }
+
+    @Override
+    public StorageMode mode() {
+        return StorageMode.SPARSE;
+    }
+}
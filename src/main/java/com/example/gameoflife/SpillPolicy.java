@@ -0,0 +1,26 @@
+package com.example.gameoflife;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+// Memory budget for StorageMode.TILED: tiles beyond it are spilled to a scratch file in directory.
+// The budget applies per grid, and evolving keeps two grids (current and next) alive at once.
+public record SpillPolicy(long memoryBudgetBytes, Path directory) {
+    static final long DEFAULT_BUDGET_BYTES = 256L << 20;
+
+    public SpillPolicy {
+        Objects.requireNonNull(directory, "Spill directory cannot be null");
+        if (memoryBudgetBytes < TiledCellStore.TILE_BYTES) {
+            throw new IllegalArgumentException(
+                "Memory budget must hold at least one tile (%d bytes): %d".formatted(TiledCellStore.TILE_BYTES, memoryBudgetBytes));
+        }
+    }
+
+    public static SpillPolicy defaults() {
+        return new SpillPolicy(DEFAULT_BUDGET_BYTES, Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    int maxResidentTiles() {
+        return (int) Math.min(Integer.MAX_VALUE, memoryBudgetBytes / TiledCellStore.TILE_BYTES);
+    }
+}
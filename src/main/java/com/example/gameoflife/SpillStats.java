@@ -0,0 +1,9 @@
+package com.example.gameoflife;
+
+// Counters for a tiled grid: hits found a tile in memory, misses paged one back in from the scratch file
+public record SpillStats(long hits, long misses, long spills, long spilledBytes, int residentTiles, int spilledTiles) {
+    public double hitRate() {
+        var lookups = hits + misses;
+        return lookups == 0 ? 1.0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.gameoflife;
+
+public enum StampMode {
+    OR,      // set live cells, keep everything else
+    XOR,     // toggle cells under live pattern cells
+    REPLACE  // overwrite the whole bounding box
+}
@@ -0,0 +1,15 @@
+package com.example.gameoflife;
+
+public enum StorageMode {
+    SPARSE,  // hash set of live cells, any coordinates
+    DENSE,   // one bit per cell, bounded boards only
+    TILED;   // 64x64 bit tiles, any coordinates; cold tiles spill to disk beyond a memory budget
+
+    // Above this many cells a bitboard costs more than it saves for typical sparse boards
+    static final long DENSE_CELL_LIMIT = 1L << 30;
+
+    public static StorageMode defaultFor(BoundaryCondition boundary, int rows, int cols) {
+        return boundary instanceof BoundaryCondition.Infinite || (long) rows * cols > DENSE_CELL_LIMIT ?
+            SPARSE : DENSE;
+    }
+}
@@ -0,0 +1,303 @@
+package com.example.gameoflife;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+// A board that is invariant under a group of Transforms, stored and evolved through one
+// representative per orbit: the orbit's first cell in row-major order. Life-like rules whose
+// neighborhood the group maps onto itself preserve the symmetry, so each step evaluates only
+// representative cells, reading any neighbor through its own representative, and the full board is
+// rebuilt only when asked for. A group of order k cuts the cells evaluated by up to k; bounded
+// boards keep the representatives in a bitboard of their bounding box (a quadrant under both
+// mirrors, half the board under one mirror or a half-turn).
+public final class SymmetricGrid {
+    private static final Transform[] TRANSFORMS = Transform.values();
+    // Minimum representatives per parallel band
+    private static final int MIN_BAND_CELLS = 4096;
+
+    private final int rows;
+    private final int cols;
+    private final BoundaryCondition boundary;
+    private final Topology topology;
+    private final Transform[] symmetry;
+    private final Grid domain;
+
+    private SymmetricGrid(int rows, int cols, BoundaryCondition boundary, Topology topology,
+                          Transform[] symmetry, Grid domain) {
+        this.rows = rows;
+        this.cols = cols;
+        this.boundary = boundary;
+        this.topology = topology;
+        this.symmetry = symmetry;
+        this.domain = domain;
+    }
+
+    // Every transform the board is invariant under; axis-swapping ones only on square boards.
+    // Always a group, and at least {IDENTITY}.
+    public static Set<Transform> detect(Grid grid) {
+        var found = EnumSet.noneOf(Transform.class);
+        var live = grid.getLiveCells();
+        for (var transform : TRANSFORMS) {
+            if (fits(transform, grid.getRows(), grid.getCols()) && live.stream().allMatch(cell ->
+                    grid.isAlive(transform.row(cell.row(), cell.col(), grid.getRows(), grid.getCols()),
+                        transform.col(cell.row(), cell.col(), grid.getRows(), grid.getCols())))) {
+                found.add(transform);
+            }
+        }
+        return found;
+    }
+
+    public static SymmetricGrid of(Grid grid) {
+        return of(grid, detect(grid));
+    }
+
+    // The declared transforms must form a group the board is invariant under. Infinite boards are
+    // taken as symmetric about the centre of their nominal rows x cols box.
+    public static SymmetricGrid of(Grid grid, Set<Transform> symmetry) {
+        var rows = grid.getRows();
+        var cols = grid.getCols();
+        if (!symmetry.contains(Transform.IDENTITY)) {
+            throw new IllegalArgumentException("Symmetry group must contain IDENTITY: " + symmetry);
+        }
+        for (var transform : symmetry) {
+            if (!fits(transform, rows, cols)) {
+                throw new IllegalArgumentException(
+                    "%s needs a square board: %dx%d".formatted(transform, rows, cols));
+            }
+            for (var other : symmetry) {
+                if (!symmetry.contains(compose(transform, other))) {
+                    throw new IllegalArgumentException("Transforms do not form a group: " + symmetry);
+                }
+            }
+        }
+        var group = symmetry.toArray(Transform[]::new);
+        Arrays.sort(group);
+        var domain = emptyDomain(grid.getBoundary(), rows, cols, group);
+        var live = grid.getLiveCells();
+        for (var cell : live) {
+            for (var transform : group) {
+                if (!grid.isAlive(transform.row(cell.row(), cell.col(), rows, cols),
+                        transform.col(cell.row(), cell.col(), rows, cols))) {
+                    throw new IllegalArgumentException("Board is not symmetric under " + transform);
+                }
+            }
+        }
+        var result = new SymmetricGrid(rows, cols, grid.getBoundary(), grid.getTopology(), group, domain);
+        for (var cell : live) {
+            if (result.isRepresentative(cell.row(), cell.col())) {
+                domain.setAlive(cell.row(), cell.col(), true);
+            }
+        }
+        return result;
+    }
+
+    private static boolean fits(Transform transform, int rows, int cols) {
+        return !transform.swapsAxes() || rows == cols;
+    }
+
+    // first after second; a 4x4 square tells all eight transforms apart by where (0, 1) lands
+    private static Transform compose(Transform first, Transform second) {
+        var row = first.row(second.row(0, 1, 4, 4), second.col(0, 1, 4, 4), 4, 4);
+        var col = first.col(second.row(0, 1, 4, 4), second.col(0, 1, 4, 4), 4, 4);
+        return Arrays.stream(TRANSFORMS)
+            .filter(transform -> transform.row(0, 1, 4, 4) == row && transform.col(0, 1, 4, 4) == col)
+            .findFirst()
+            .orElseThrow();
+    }
+
+    // Representatives fall in the first half of the rows under a vertical flip or half-turn, and in
+    // the first half of the columns under a horizontal flip
+    private static Grid emptyDomain(BoundaryCondition boundary, int rows, int cols, Transform[] group) {
+        if (boundary instanceof BoundaryCondition.Infinite) {
+            return new Grid(rows, cols, boundary, StorageMode.SPARSE);
+        }
+        var members = EnumSet.copyOf(Arrays.asList(group));
+        var domainRows = members.contains(Transform.FLIP_VERTICAL) || members.contains(Transform.ROTATE_180) ?
+            (rows + 1) / 2 : rows;
+        var domainCols = members.contains(Transform.FLIP_HORIZONTAL) ? (cols + 1) / 2 : cols;
+        return new Grid(domainRows, domainCols, new BoundaryCondition.Fixed(), StorageMode.DENSE);
+    }
+
+    private boolean isRepresentative(int row, int col) {
+        for (var transform : symmetry) {
+            var r = transform.row(row, col, rows, cols);
+            if (r < row || (r == row && transform.col(row, col, rows, cols) < col)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Packed representative of an in-board cell
+    private long representative(int row, int col) {
+        var bestRow = row;
+        var bestCol = col;
+        for (var transform : symmetry) {
+            var r = transform.row(row, col, rows, cols);
+            var c = transform.col(row, col, rows, cols);
+            if (r < bestRow || (r == bestRow && c < bestCol)) {
+                bestRow = r;
+                bestCol = c;
+            }
+        }
+        return Cell.of(bestRow, bestCol).pack();
+    }
+
+    private boolean alive(int row, int col) {
+        var r = topology.wrapRow(row);
+        var c = topology.wrapCol(col);
+        if (r == Topology.OUTSIDE || c == Topology.OUTSIDE) {
+            return false;
+        }
+        // representative() inlined: this is the per-neighbor path
+        var bestRow = r;
+        var bestCol = c;
+        for (var transform : symmetry) {
+            var tr = transform.row(r, c, rows, cols);
+            var tc = transform.col(r, c, rows, cols);
+            if (tr < bestRow || (tr == bestRow && tc < bestCol)) {
+                bestRow = tr;
+                bestCol = tc;
+            }
+        }
+        return domain.isAlive(bestRow, bestCol);
+    }
+
+    // The group must map the neighborhood onto itself for the symmetry to survive a step
+    private boolean preservedBy(GameRules rules) {
+        var offsets = new HashSet<>(rules.neighborhood().offsets());
+        for (var transform : symmetry) {
+            for (var offset : offsets) {
+                if (!offsets.contains(Cell.of(transform.row(offset.row(), offset.col(), 1, 1),
+                        transform.col(offset.row(), offset.col(), 1, 1)))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // Rules that would break the symmetry (or have no offset neighborhood) step the full board and
+    // keep whatever part of the group survives
+    public SymmetricGrid evolveWith(GameRules rules, Executor executor)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        if (rules instanceof LargerThanLifeRules || !preservedBy(rules)) {
+            var next = toGrid().evolveWith(rules, executor);
+            var retained = detect(next);
+            retained.retainAll(Arrays.asList(symmetry));
+            return of(next, retained);
+        }
+        var neighborhood = rules.neighborhood();
+        var rowOffsets = neighborhood.rowOffsets();
+        var colOffsets = neighborhood.colOffsets();
+
+        // Live representatives and every representative that counts one of them
+        var candidates = new HashSet<Long>();
+        domain.store().forEachLive((row, col) -> {
+            candidates.add(Cell.of(row, col).pack());
+            for (int k = 0; k < rowOffsets.length; k++) {
+                var r = topology.wrapRow(row - rowOffsets[k]);
+                var c = topology.wrapCol(col - colOffsets[k]);
+                if (r != Topology.OUTSIDE && c != Topology.OUTSIDE) {
+                    candidates.add(representative(r, c));
+                }
+            }
+        });
+        var cells = candidates.stream().mapToLong(Long::longValue).toArray();
+
+        var bands = Math.max(1, Math.min(cells.length / MIN_BAND_CELLS, Runtime.getRuntime().availableProcessors() * 2));
+        var futures = new ArrayList<CompletableFuture<long[]>>(bands);
+        for (int band = 0; band < bands; band++) {
+            var from = (int) ((long) cells.length * band / bands);
+            var to = (int) ((long) cells.length * (band + 1) / bands);
+            futures.add(CompletableFuture.supplyAsync(() -> evaluate(rules, cells, from, to), executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+
+        var next = new SymmetricGrid(rows, cols, boundary, topology, symmetry, domain.emptyCopy());
+        for (var future : futures) {
+            for (long packed : future.join()) {
+                var cell = Cell.unpack(packed);
+                next.domain.setAlive(cell.row(), cell.col(), true);
+            }
+        }
+        return next;
+    }
+
+    // Packed cells among cells[from, to) that are alive next generation
+    private long[] evaluate(GameRules rules, long[] cells, int from, int to) {
+        var neighborhood = rules.neighborhood();
+        var rowOffsets = neighborhood.rowOffsets();
+        var colOffsets = neighborhood.colOffsets();
+        var born = new long[to - from];
+        var count = 0;
+        for (int i = from; i < to; i++) {
+            var cell = Cell.unpack(cells[i]);
+            var neighbors = 0;
+            for (int k = 0; k < rowOffsets.length; k++) {
+                if (alive(cell.row() + rowOffsets[k], cell.col() + colOffsets[k])) {
+                    neighbors++;
+                }
+            }
+            var state = CellState.fromBoolean(domain.isAlive(cell.row(), cell.col()));
+            if (rules.nextState(state, neighbors).isAlive()) {
+                born[count++] = cells[i];
+            }
+        }
+        return Arrays.copyOf(born, count);
+    }
+
+    public SymmetricGrid evolveWith(GameRules rules, Executor executor, int generations)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        if (generations < 0) {
+            throw new IllegalArgumentException("Generation count cannot be negative: " + generations);
+        }
+        var grid = this;
+        for (int i = 0; i < generations; i++) {
+            grid = grid.evolveWith(rules, executor);
+        }
+        return grid;
+    }
+
+    // Full board with every representative copied to its whole orbit
+    public Grid toGrid() {
+        var grid = new Grid(rows, cols, boundary);
+        domain.store().forEachLive((row, col) -> {
+            for (var transform : symmetry) {
+                grid.setAlive(transform.row(row, col, rows, cols), transform.col(row, col, rows, cols), true);
+            }
+        });
+        return grid;
+    }
+
+    public CellState getCellState(Cell cell) {
+        return CellState.fromBoolean(alive(cell.row(), cell.col()));
+    }
+
+    // Live cells on the full board: each representative counts once per distinct cell in its orbit
+    public long population() {
+        var population = new long[1];
+        var orbit = new HashSet<Long>();
+        domain.store().forEachLive((row, col) -> {
+            orbit.clear();
+            for (var transform : symmetry) {
+                orbit.add(Cell.of(transform.row(row, col, rows, cols), transform.col(row, col, rows, cols)).pack());
+            }
+            population[0] += orbit.size();
+        });
+        return population[0];
+    }
+
+    // Live cells actually stored and evolved
+    public long domainPopulation() {
+        return domain.population();
+    }
+
+    public Set<Transform> symmetry() {
+        return Collections.unmodifiableSet(EnumSet.copyOf(Arrays.asList(symmetry)));
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+    public BoundaryCondition getBoundary() { return boundary; }
+}
@@ -0,0 +1,473 @@
+package com.example.gameoflife;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+// 64x64-cell tiles keyed by tile coordinates, so any coordinates work, as with sparse storage.
+// At most the policy's budget of tiles stays in memory, in LRU order; the least recently used
+// tile beyond it is compressed (a bitmap of its non-zero rows plus those rows) into a slot of a
+// memory-mapped scratch file and paged back in when a get or set reaches it. Scans such as
+// forEachLive read spilled tiles in place without paging them in. All access is synchronized.
+// Stores made by empty() and copy() share one scratch file, so successive generations reuse its
+// segments; a store's slots return to the file's free lists when the store is collected.
+final class TiledCellStore implements CellStore {
+    static final int TILE_SHIFT = 6;
+    private static final int TILE_MASK = (1 << TILE_SHIFT) - 1;
+    // A resident tile: 64 row words plus array header and LRU map entry
+    static final long TILE_BYTES = 64 * 8 + 112;
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final SpillPolicy policy;
+    private final int maxResident;
+    private final LinkedHashMap<Long, long[]> resident = new LinkedHashMap<>(64, 0.75f, true);
+    // Tile key -> scratch file slot; concurrent so the cleaner sees every slot once we are unreachable
+    private final Map<Long, Long> spilled = new ConcurrentHashMap<>();
+    private final ScratchFile scratch;
+    private long population;
+    private long hits;
+    private long misses;
+    private long spills;
+    private long spilledBytes;
+
+    TiledCellStore(SpillPolicy policy) {
+        this(policy, new ScratchFile(policy));
+    }
+
+    private TiledCellStore(SpillPolicy policy, ScratchFile scratch) {
+        this.policy = policy;
+        this.maxResident = policy.maxResidentTiles();
+        this.scratch = scratch;
+        CLEANER.register(this, new SlotRelease(scratch, spilled));
+    }
+
+    // Must not reference the store, or it would never become unreachable
+    private record SlotRelease(ScratchFile scratch, Map<Long, Long> spilled) implements Runnable {
+        @Override
+        public void run() {
+            spilled.values().forEach(scratch::free);
+        }
+    }
+
+    static long key(int tileRow, int tileCol) {
+        return ((long) tileRow << 32) | (tileCol & 0xFFFFFFFFL);
+    }
+
+    static int tileRow(long key) {
+        return (int) (key >> 32);
+    }
+
+    static int tileCol(long key) {
+        return (int) key;
+    }
+
+    @Override
+    public synchronized boolean get(int row, int col) {
+        var tile = tile(key(row >> TILE_SHIFT, col >> TILE_SHIFT), false);
+        return tile != null && (tile[row & TILE_MASK] & (1L << col)) != 0;
+    }
+
+    @Override
+    public synchronized void set(int row, int col, boolean alive) {
+        var key = key(row >> TILE_SHIFT, col >> TILE_SHIFT);
+        var tile = tile(key, alive);
+        if (tile == null) {
+            return;
+        }
+        var before = tile[row & TILE_MASK];
+        var after = alive ? before | (1L << col) : before & ~(1L << col);
+        setRow(key, tile, row & TILE_MASK, after);
+    }
+
+    // Resident tile for key, paging it in or creating it as needed; null if absent and not wanted
+    private long[] tile(long key, boolean create) {
+        var tile = resident.get(key);
+        if (tile != null) {
+            hits++;
+            return tile;
+        }
+        var slot = spilled.remove(key);
+        if (slot != null) {
+            misses++;
+            tile = scratch.read(slot);
+            scratch.free(slot);
+        } else if (create) {
+            tile = new long[1 << TILE_SHIFT];
+        } else {
+            return null;
+        }
+        resident.put(key, tile);
+        evict();
+        return tile;
+    }
+
+    private void setRow(long key, long[] tile, int index, long word) {
+        population += Long.bitCount(word) - Long.bitCount(tile[index]);
+        tile[index] = word;
+        if (word == 0 && isEmpty(tile)) {
+            resident.remove(key);
+        }
+    }
+
+    private static boolean isEmpty(long[] tile) {
+        for (long word : tile) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void evict() {
+        while (resident.size() > maxResident) {
+            var eldest = resident.entrySet().iterator().next();
+            resident.remove(eldest.getKey());
+            var slot = scratch.write(eldest.getValue());
+            spilled.put(eldest.getKey(), slot);
+            spills++;
+            spilledBytes += ScratchFile.length(slot);
+        }
+    }
+
+    // Tile contents without paging a spilled tile in; null if absent
+    private long[] peek(long key) {
+        var tile = resident.get(key);
+        if (tile != null) {
+            return tile;
+        }
+        var slot = spilled.get(key);
+        return slot == null ? null : scratch.read(slot);
+    }
+
+    // Tile-level access for TiledEvolution: whole tiles in and out under one lock acquisition each
+    synchronized long[] tileKeys() {
+        var keys = new long[resident.size() + spilled.size()];
+        int i = 0;
+        for (var key : resident.keySet()) {
+            keys[i++] = key;
+        }
+        for (var key : spilled.keySet()) {
+            keys[i++] = key;
+        }
+        return keys;
+    }
+
+    // Contents of each tile, or null where absent; spilled tiles are read in place, not paged in.
+    // Resident tiles are returned as-is and must not be modified.
+    synchronized void peekTiles(long[] keys, long[][] tiles) {
+        for (int i = 0; i < keys.length; i++) {
+            tiles[i] = peek(keys[i]);
+        }
+    }
+
+    // Takes ownership of a non-empty tile for a key this store does not hold yet
+    synchronized void putTile(long key, long[] tile) {
+        adopt(key, tile);
+    }
+
+    // Keys of the tiles overlapping a region: probed when fewer than the tiles we hold, else filtered
+    private List<Long> tilesIn(int top, int left, int height, int width) {
+        var firstRow = top >> TILE_SHIFT;
+        var lastRow = (top + height - 1) >> TILE_SHIFT;
+        var firstCol = left >> TILE_SHIFT;
+        var lastCol = (left + width - 1) >> TILE_SHIFT;
+        var keys = new ArrayList<Long>();
+        if ((long) (lastRow - firstRow + 1) * (lastCol - firstCol + 1) < resident.size() + spilled.size()) {
+            for (int tileRow = firstRow; tileRow <= lastRow; tileRow++) {
+                for (int tileCol = firstCol; tileCol <= lastCol; tileCol++) {
+                    var key = key(tileRow, tileCol);
+                    if (resident.containsKey(key) || spilled.containsKey(key)) {
+                        keys.add(key);
+                    }
+                }
+            }
+        } else {
+            Stream.concat(resident.keySet().stream(), spilled.keySet().stream())
+                .filter(key -> tileRow(key) >= firstRow && tileRow(key) <= lastRow &&
+                    tileCol(key) >= firstCol && tileCol(key) <= lastCol)
+                .forEach(keys::add);
+        }
+        return keys;
+    }
+
+    // Bits of the tile row word that fall in [left, right)
+    private static long columnMask(int tileCol, int left, int right) {
+        var base = (long) tileCol << TILE_SHIFT;
+        var from = (int) Math.max(0, left - base);
+        var to = (int) Math.min(64, right - base);
+        if (from >= to) {
+            return 0;
+        }
+        return (to == 64 ? -1L : (1L << to) - 1) & (-1L << from);
+    }
+
+    @Override
+    public synchronized long population() {
+        return population;
+    }
+
+    @Override
+    public synchronized void forEachLive(CellVisitor visitor) {
+        for (var key : List.copyOf(resident.keySet())) {
+            var tile = resident.get(key);
+            if (tile != null) {
+                visitTile(key, tile, 0, 64, -1L, visitor);
+            }
+        }
+        for (var entry : List.copyOf(spilled.entrySet())) {
+            visitTile(entry.getKey(), scratch.read(entry.getValue()), 0, 64, -1L, visitor);
+        }
+    }
+
+    private static void visitTile(long key, long[] tile, int fromRow, int toRow, long mask, CellVisitor visitor) {
+        var rowBase = tileRow(key) << TILE_SHIFT;
+        var colBase = tileCol(key) << TILE_SHIFT;
+        for (int r = fromRow; r < toRow; r++) {
+            var word = tile[r] & mask;
+            while (word != 0) {
+                visitor.visit(rowBase + r, colBase + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    public synchronized Stream<Cell> liveCellsIn(int top, int left, int height, int width) {
+        var cells = new ArrayList<Cell>();
+        if (height > 0 && width > 0) {
+            for (var key : tilesIn(top, left, height, width)) {
+                var rowBase = tileRow(key) << TILE_SHIFT;
+                visitTile(key, peek(key),
+                    Math.max(0, top - rowBase), Math.min(64, top + height - rowBase),
+                    columnMask(tileCol(key), left, left + width), (row, col) -> cells.add(Cell.of(row, col)));
+            }
+        }
+        return cells.stream();
+    }
+
+    @Override
+    public synchronized long populationIn(int top, int left, int height, int width) {
+        if (height <= 0 || width <= 0) {
+            return 0;
+        }
+        long count = 0;
+        for (var key : tilesIn(top, left, height, width)) {
+            var tile = peek(key);
+            var rowBase = tileRow(key) << TILE_SHIFT;
+            var mask = columnMask(tileCol(key), left, left + width);
+            for (int r = Math.max(0, top - rowBase); r < Math.min(64, top + height - rowBase); r++) {
+                count += Long.bitCount(tile[r] & mask);
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public synchronized void fill(int top, int left, int height, int width, boolean alive) {
+        if (height <= 0 || width <= 0) {
+            return;
+        }
+        var keys = alive ? allTiles(top, left, height, width) : tilesIn(top, left, height, width);
+        for (var key : keys) {
+            var tile = tile(key, alive);
+            var rowBase = tileRow(key) << TILE_SHIFT;
+            var mask = columnMask(tileCol(key), left, left + width);
+            for (int r = Math.max(0, top - rowBase); r < Math.min(64, top + height - rowBase); r++) {
+                setRow(key, tile, r, alive ? tile[r] | mask : tile[r] & ~mask);
+            }
+        }
+    }
+
+    private static List<Long> allTiles(int top, int left, int height, int width) {
+        var keys = new ArrayList<Long>();
+        for (int tileRow = top >> TILE_SHIFT; tileRow <= (top + height - 1) >> TILE_SHIFT; tileRow++) {
+            for (int tileCol = left >> TILE_SHIFT; tileCol <= (left + width - 1) >> TILE_SHIFT; tileCol++) {
+                keys.add(key(tileRow, tileCol));
+            }
+        }
+        return keys;
+    }
+
+    // Tiles are 64 columns wide, so each tile contributes exactly one word of a board row
+    @Override
+    public synchronized long[] exportRow(int row, int cols) {
+        var words = new long[(cols + 63) >>> 6];
+        for (int w = 0; w < words.length; w++) {
+            var tile = peek(key(row >> TILE_SHIFT, w));
+            if (tile != null) {
+                words[w] = tile[row & TILE_MASK] & columnMask(w, 0, cols);
+            }
+        }
+        return words;
+    }
+
+    @Override
+    public synchronized void importRow(int row, long[] words, int cols) {
+        for (int w = 0; w < (cols + 63) >>> 6; w++) {
+            var word = (w < words.length ? words[w] : 0L) & columnMask(w, 0, cols);
+            var key = key(row >> TILE_SHIFT, w);
+            var tile = tile(key, word != 0);
+            if (tile != null) {
+                setRow(key, tile, row & TILE_MASK, word);
+            }
+        }
+    }
+
+    @Override
+    public synchronized CellStore copy() {
+        var copy = new TiledCellStore(policy, scratch);
+        for (var key : List.copyOf(resident.keySet())) {
+            copy.adopt(key, resident.get(key).clone());
+        }
+        for (var entry : spilled.entrySet()) {
+            copy.adopt(entry.getKey(), scratch.read(entry.getValue()));
+        }
+        return copy;
+    }
+
+    private void adopt(long key, long[] tile) {
+        for (long word : tile) {
+            population += Long.bitCount(word);
+        }
+        resident.put(key, tile);
+        evict();
+    }
+
+    @Override
+    public CellStore empty() {
+        return new TiledCellStore(policy, scratch);
+    }
+
+    @Override
+    public StorageMode mode() {
+        return StorageMode.TILED;
+    }
+
+    synchronized SpillStats stats() {
+        return new SpillStats(hits, misses, spills, spilledBytes, resident.size(), spilled.size());
+    }
+
+    // Append-allocated slots in 64 MiB mapped segments; a freed slot is reused by the next spill of
+    // the same compressed length. Shared by a lineage of stores, so every method is synchronized.
+    // The file is created on the first spill and deleted once no store uses it.
+    private static final class ScratchFile {
+        private static final int SEGMENT_BYTES = 1 << 26;
+        private static final int LENGTH_BITS = 10;
+
+        private final SpillPolicy policy;
+        private final Handle handle = new Handle();
+        private final List<MappedByteBuffer> segments = new ArrayList<>();
+        private final Map<Integer, ArrayDeque<Long>> freeSlots = new HashMap<>();
+        private long end;
+
+        // Closes the channel for the cleaner; holds nothing that refers back to the file
+        private static final class Handle implements Runnable {
+            private volatile FileChannel channel;
+
+            @Override
+            public void run() {
+                var open = channel;
+                if (open != null) {
+                    try {
+                        open.close();
+                    } catch (IOException _) {
+                        // Nothing left to release
+                    }
+                }
+            }
+        }
+
+        ScratchFile(SpillPolicy policy) {
+            this.policy = policy;
+            CLEANER.register(this, handle);
+        }
+
+        private FileChannel channel() {
+            if (handle.channel == null) {
+                try {
+                    var path = Files.createTempFile(policy.directory(), "gameoflife-tiles", ".spill");
+                    handle.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                        StandardOpenOption.DELETE_ON_CLOSE);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot create spill file in " + policy.directory(), e);
+                }
+            }
+            return handle.channel;
+        }
+
+        static int length(long slot) {
+            return (int) (slot & ((1 << LENGTH_BITS) - 1));
+        }
+
+        // Layout: a word whose bit r marks a non-zero row r, then those rows in order
+        synchronized long write(long[] tile) {
+            long rowMask = 0;
+            for (int r = 0; r < tile.length; r++) {
+                if (tile[r] != 0) {
+                    rowMask |= 1L << r;
+                }
+            }
+            var length = 8 * (1 + Long.bitCount(rowMask));
+            var free = freeSlots.get(length);
+            var offset = free == null || free.isEmpty() ? allocate(length) : free.pop();
+            var segment = segment(offset);
+            var position = (int) (offset % SEGMENT_BYTES);
+            segment.putLong(position, rowMask);
+            for (int r = 0; r < tile.length; r++) {
+                if (tile[r] != 0) {
+                    position += 8;
+                    segment.putLong(position, tile[r]);
+                }
+            }
+            return offset << LENGTH_BITS | length;
+        }
+
+        synchronized long[] read(long slot) {
+            var offset = slot >>> LENGTH_BITS;
+            var segment = segment(offset);
+            var position = (int) (offset % SEGMENT_BYTES);
+            var rowMask = segment.getLong(position);
+            var tile = new long[1 << TILE_SHIFT];
+            while (rowMask != 0) {
+                position += 8;
+                tile[Long.numberOfTrailingZeros(rowMask)] = segment.getLong(position);
+                rowMask &= rowMask - 1;
+            }
+            return tile;
+        }
+
+        synchronized void free(long slot) {
+            freeSlots.computeIfAbsent(length(slot), _ -> new ArrayDeque<>()).push(slot >>> LENGTH_BITS);
+        }
+
+        // Slots never straddle two segments
+        private long allocate(int length) {
+            if (end / SEGMENT_BYTES != (end + length - 1) / SEGMENT_BYTES) {
+                end = (end / SEGMENT_BYTES + 1) * SEGMENT_BYTES;
+            }
+            var offset = end;
+            end += length;
+            return offset;
+        }
+
+        private MappedByteBuffer segment(long offset) {
+            var index = (int) (offset / SEGMENT_BYTES);
+            try {
+                while (segments.size() <= index) {
+                    segments.add(channel().map(FileChannel.MapMode.READ_WRITE, (long) segments.size() * SEGMENT_BYTES,
+                        SEGMENT_BYTES));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot map spill file segment " + index, e);
+            }
+            return segments.get(index);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.example.gameoflife;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntUnaryOperator;
+
+// Evolution for tiled boards, one 64x64 tile at a time. Each task reads the few source tiles
+// within the rule's radius (spilled ones straight from the scratch file, without paging them in)
+// and hands its result tile to the next store, which spills under its own budget. No cell set or
+// board-sized array is built, so heap use follows the budget rather than the board.
+final class TiledEvolution {
+    private static final int TILE = 1 << TiledCellStore.TILE_SHIFT;
+    private static final int MIN_CHUNK_TILES = 16;
+
+    private TiledEvolution() {}
+
+    // Like evolveWith, only births next to live cells are seen: B0 rules behave as on sparse boards
+    static Grid evolve(Grid grid, GameRules rules, Executor executor, BooleanSupplier stopRequested)
+            throws InterruptedException, ExecutionException {
+        if (rules instanceof LargerThanLifeRules && !grid.getTopology().isBounded()) {
+            throw new IllegalArgumentException("Larger than Life requires a Fixed or Toroidal boundary");
+        }
+        var source = (TiledCellStore) grid.store();
+        var next = grid.emptyCopy();
+        var target = (TiledCellStore) next.store();
+        var kernel = Kernel.of(rules);
+        var candidates = candidates(grid, source.tileKeys(), kernel.radius());
+
+        var abandoned = new AtomicBoolean();
+        var chunks = Math.max(1, Math.min(candidates.length / MIN_CHUNK_TILES,
+            Runtime.getRuntime().availableProcessors() * 4));
+        var futures = new ArrayList<CompletableFuture<Void>>(chunks);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            var from = (int) ((long) candidates.length * chunk / chunks);
+            var to = (int) ((long) candidates.length * (chunk + 1) / chunks);
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = from; i < to; i++) {
+                    if (stopRequested.getAsBoolean()) {
+                        abandoned.set(true);
+                        return;
+                    }
+                    var tile = new Window(grid, candidates[i], kernel.radius()).step(source, kernel);
+                    if (tile != null) {
+                        target.putTile(candidates[i], tile);
+                    }
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+        if (abandoned.get()) {
+            throw new CancellationException("Step abandoned before all tiles were computed");
+        }
+        return next;
+    }
+
+    // Every tile within the radius of a stored tile, sorted row-major so tasks sweep the board
+    private static long[] candidates(Grid grid, long[] keys, int radius) {
+        var topology = grid.getTopology();
+        var candidates = new long[16];
+        int count = 0;
+        for (var key : keys) {
+            var tileRows = near(TiledCellStore.tileRow(key), grid.getRows(), topology.isBounded(), radius, topology::wrapRow);
+            var tileCols = near(TiledCellStore.tileCol(key), grid.getCols(), topology.isBounded(), radius, topology::wrapCol);
+            for (var tileRow : tileRows) {
+                for (var tileCol : tileCols) {
+                    if (count == candidates.length) {
+                        candidates = Arrays.copyOf(candidates, 2 * count);
+                    }
+                    candidates[count++] = TiledCellStore.key(tileRow, tileCol);
+                }
+            }
+        }
+        Arrays.parallelSort(candidates, 0, count);
+        return Arrays.stream(candidates, 0, count).distinct().toArray();
+    }
+
+    // Tile indices holding any cell within radius of the given tile; only its edges can reach out
+    private static int[] near(int tile, int size, boolean bounded, int radius, IntUnaryOperator wrap) {
+        var first = tile * TILE;
+        var last = first + (bounded ? Math.min(TILE, size - first) : TILE) - 1;
+        var near = new int[] {tile};
+        for (int offset = 1; offset <= radius; offset++) {
+            near = withTileOf(near, wrap.applyAsInt(first - offset));
+            near = withTileOf(near, wrap.applyAsInt(last + offset));
+        }
+        return near;
+    }
+
+    private static int[] withTileOf(int[] tiles, int index) {
+        if (index == Topology.OUTSIDE) {
+            return tiles;
+        }
+        var tile = index >> TiledCellStore.TILE_SHIFT;
+        for (var existing : tiles) {
+            if (existing == tile) {
+                return tiles;
+            }
+        }
+        var grown = Arrays.copyOf(tiles, tiles.length + 1);
+        grown[tiles.length] = tile;
+        return grown;
+    }
+
+    // How one tile's cells are decided: bit-sliced for Moore life-like rules, counted otherwise
+    private record Kernel(int radius, boolean bitSliced, int birth, int survival,
+                          int[] rowOffsets, int[] colOffsets, boolean[] born, boolean[] survives) {
+
+        static Kernel of(GameRules rules) {
+            if (BitKernel.supports(rules)) {
+                return new Kernel(1, true, BitKernel.birthMask(rules), BitKernel.survivalMask(rules),
+                    null, null, null, null);
+            }
+            int[] rowOffsets;
+            int[] colOffsets;
+            int radius;
+            if (rules instanceof LargerThanLifeRules range) {
+                // Square of the given radius; the center is one of the offsets when the rule counts it
+                radius = range.radius();
+                var side = 2 * radius + 1;
+                rowOffsets = new int[range.neighborhoodSize()];
+                colOffsets = new int[rowOffsets.length];
+                int k = 0;
+                for (int cell = 0; cell < side * side; cell++) {
+                    var dr = cell / side - radius;
+                    var dc = cell % side - radius;
+                    if (dr != 0 || dc != 0 || range.includeCenter()) {
+                        rowOffsets[k] = dr;
+                        colOffsets[k++] = dc;
+                    }
+                }
+            } else {
+                var neighborhood = rules.neighborhood();
+                radius = neighborhood.radius();
+                rowOffsets = neighborhood.rowOffsets();
+                colOffsets = neighborhood.colOffsets();
+            }
+            var born = new boolean[rowOffsets.length + 1];
+            var survives = new boolean[rowOffsets.length + 1];
+            for (int count = 0; count <= rowOffsets.length; count++) {
+                born[count] = rules.nextState(CellState.DEAD, count).isAlive();
+                survives[count] = rules.nextState(CellState.ALIVE, count).isAlive();
+            }
+            return new Kernel(radius, false, 0, 0, rowOffsets, colOffsets, born, survives);
+        }
+    }
+
+    // One target tile and its padded surroundings, resolved through the topology once
+    private static final class Window {
+        private final int height;
+        private final int width;
+        private final int radius;
+        // Board index of each padded row/column, and which fetched tile row/column holds it
+        private final int[] rowIndex;
+        private final int[] colIndex;
+        private final int[] rowSlot;
+        private final int[] colSlot;
+        private int[] tileRows = new int[0];
+        private int[] tileCols = new int[0];
+        private long[][] tiles;
+
+        Window(Grid grid, long key, int radius) {
+            var topology = grid.getTopology();
+            var top = TiledCellStore.tileRow(key) * TILE;
+            var left = TiledCellStore.tileCol(key) * TILE;
+            this.height = topology.isBounded() ? Math.min(TILE, grid.getRows() - top) : TILE;
+            this.width = topology.isBounded() ? Math.min(TILE, grid.getCols() - left) : TILE;
+            this.radius = radius;
+            this.rowIndex = new int[height + 2 * radius];
+            this.colIndex = new int[width + 2 * radius];
+            this.rowSlot = new int[rowIndex.length];
+            this.colSlot = new int[colIndex.length];
+            for (int p = 0; p < rowIndex.length; p++) {
+                rowIndex[p] = topology.wrapRow(top - radius + p);
+                rowSlot[p] = rowIndex[p] == Topology.OUTSIDE ? -1 : slot(true, rowIndex[p] >> TiledCellStore.TILE_SHIFT);
+            }
+            for (int p = 0; p < colIndex.length; p++) {
+                colIndex[p] = topology.wrapCol(left - radius + p);
+                colSlot[p] = colIndex[p] == Topology.OUTSIDE ? -1 : slot(false, colIndex[p] >> TiledCellStore.TILE_SHIFT);
+            }
+        }
+
+        private int slot(boolean row, int tile) {
+            var known = row ? tileRows : tileCols;
+            for (int i = 0; i < known.length; i++) {
+                if (known[i] == tile) {
+                    return i;
+                }
+            }
+            var grown = Arrays.copyOf(known, known.length + 1);
+            grown[known.length] = tile;
+            if (row) {
+                tileRows = grown;
+            } else {
+                tileCols = grown;
+            }
+            return known.length;
+        }
+
+        // Next contents of the tile, or null when it stays empty
+        long[] step(TiledCellStore source, Kernel kernel) {
+            var keys = new long[tileRows.length * tileCols.length];
+            for (int i = 0; i < tileRows.length; i++) {
+                for (int j = 0; j < tileCols.length; j++) {
+                    keys[i * tileCols.length + j] = TiledCellStore.key(tileRows[i], tileCols[j]);
+                }
+            }
+            tiles = new long[keys.length][];
+            source.peekTiles(keys, tiles);
+            if (Arrays.stream(tiles).allMatch(tile -> tile == null)) {
+                return null;
+            }
+            var next = kernel.bitSliced() ? bitSliced(kernel) : counted(kernel);
+            for (var word : next) {
+                if (word != 0) {
+                    return next;
+                }
+            }
+            return null;
+        }
+
+        // Row word of the fetched tile at padded row p and padded column q's tile column
+        private long word(int p, int q) {
+            if (rowSlot[p] < 0 || colSlot[q] < 0) {
+                return 0;
+            }
+            var tile = tiles[rowSlot[p] * tileCols.length + colSlot[q]];
+            return tile == null ? 0 : tile[rowIndex[p] & (TILE - 1)];
+        }
+
+        private long bit(int p, int q) {
+            return colSlot[q] < 0 ? 0 : (word(p, q) >>> colIndex[q]) & 1;
+        }
+
+        // Radius 1: padded row p is board row p - 1, padded column q is board column q - 1
+        private long[] bitSliced(Kernel kernel) {
+            var center = new long[height + 2];
+            var west = new long[height + 2];
+            var east = new long[height + 2];
+            for (int p = 0; p < height + 2; p++) {
+                center[p] = word(p, 1);
+                west[p] = (center[p] << 1) | bit(p, 0);
+                east[p] = (center[p] >>> 1) | (bit(p, width + 1) << (width - 1));
+            }
+            var valid = width == TILE ? -1L : (1L << width) - 1;
+            var next = new long[TILE];
+            for (int row = 0; row < height; row++) {
+                next[row] = BitKernel.next(center[row + 1],
+                    west[row], center[row], east[row],
+                    west[row + 1], east[row + 1],
+                    west[row + 2], center[row + 2], east[row + 2],
+                    kernel.birth(), kernel.survival()) & valid;
+            }
+            return next;
+        }
+
+        private long[] counted(Kernel kernel) {
+            var stride = colIndex.length;
+            var cells = new byte[rowIndex.length * stride];
+            for (int p = 0; p < rowIndex.length; p++) {
+                for (int q = 0; q < stride; q++) {
+                    cells[p * stride + q] = (byte) bit(p, q);
+                }
+            }
+            var deltas = new int[kernel.rowOffsets().length];
+            for (int k = 0; k < deltas.length; k++) {
+                deltas[k] = kernel.rowOffsets()[k] * stride + kernel.colOffsets()[k];
+            }
+            var next = new long[TILE];
+            for (int row = 0; row < height; row++) {
+                for (int col = 0; col < width; col++) {
+                    var index = (row + radius) * stride + col + radius;
+                    int count = 0;
+                    for (var delta : deltas) {
+                        count += cells[index + delta];
+                    }
+                    if (cells[index] != 0 ? kernel.survives()[count] : kernel.born()[count]) {
+                        next[row] |= 1L << col;
+                    }
+                }
+            }
+            return next;
+        }
+    }
+}
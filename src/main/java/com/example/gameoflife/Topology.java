@@ -0,0 +1,79 @@
+package com.example.gameoflife;
+
+import java.util.function.IntBinaryOperator;
+
+public final class Topology {
+    // Marker for a padded index that falls off a bounded board
+    public static final int OUTSIDE = Integer.MIN_VALUE;
+
+    private final int rows;
+    private final int cols;
+    private final int halo;
+    private final boolean bounded;
+    private final IntBinaryOperator wrap;
+    private final int[] rowIndex;
+    private final int[] colIndex;
+
+    private Topology(int rows, int cols, int halo, boolean bounded, IntBinaryOperator wrap) {
+        if (halo < 0) {
+            throw new IllegalArgumentException("Halo must not be negative: " + halo);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.halo = halo;
+        this.bounded = bounded;
+        this.wrap = wrap;
+        this.rowIndex = buildIndex(rows, halo, wrap);
+        this.colIndex = buildIndex(cols, halo, wrap);
+    }
+
+    static Topology bounded(int rows, int cols, int halo, IntBinaryOperator wrap) {
+        return new Topology(rows, cols, halo, true, wrap);
+    }
+
+    static Topology unbounded(int rows, int cols, int halo) {
+        return new Topology(rows, cols, halo, false, (index, _) -> index);
+    }
+
+    // Ghost-cell table: entry p holds the board index for padded position p - halo
+    private static int[] buildIndex(int size, int halo, IntBinaryOperator wrap) {
+        var index = new int[size + 2 * halo];
+        for (int p = 0; p < index.length; p++) {
+            index[p] = size == 0 ? OUTSIDE : wrap.applyAsInt(p - halo, size);
+        }
+        return index;
+    }
+
+    public boolean isInterior(int row, int col) {
+        return !bounded ||
+            (row >= halo && row < rows - halo && col >= halo && col < cols - halo);
+    }
+
+    public int wrapRow(int row) {
+        return lookup(rowIndex, row, rows);
+    }
+
+    public int wrapCol(int col) {
+        return lookup(colIndex, col, cols);
+    }
+
+    private int lookup(int[] index, int value, int size) {
+        if (!bounded || (value >= 0 && value < size)) {
+            return value;
+        }
+        if (size == 0) {
+            return OUTSIDE;
+        }
+        var padded = value + halo;
+        return padded >= 0 && padded < index.length ?
+            index[padded] : wrap.applyAsInt(value, size);
+    }
+
+    public int[] rowIndex() { return rowIndex.clone(); }
+    public int[] colIndex() { return colIndex.clone(); }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+    public int getHalo() { return halo; }
+    public boolean isBounded() { return bounded; }
+}
@@ -0,0 +1,36 @@
+package com.example.gameoflife;
+
+// The eight symmetries of a rectangle (dihedral group D4)
+public enum Transform {
+    IDENTITY(false), ROTATE_90(true), ROTATE_180(false), ROTATE_270(true),
+    FLIP_HORIZONTAL(false), FLIP_VERTICAL(false), TRANSPOSE(true), ANTI_TRANSPOSE(true);
+
+    private final boolean swapsAxes;
+
+    Transform(boolean swapsAxes) {
+        this.swapsAxes = swapsAxes;
+    }
+
+    public boolean swapsAxes() {
+        return swapsAxes;
+    }
+
+    // Target row of source cell (row, col) in a height x width source
+    public int row(int row, int col, int height, int width) {
+        return switch (this) {
+            case IDENTITY, FLIP_HORIZONTAL -> row;
+            case ROTATE_90, TRANSPOSE -> col;
+            case ROTATE_180, FLIP_VERTICAL -> height - 1 - row;
+            case ROTATE_270, ANTI_TRANSPOSE -> width - 1 - col;
+        };
+    }
+
+    public int col(int row, int col, int height, int width) {
+        return switch (this) {
+            case IDENTITY, FLIP_VERTICAL -> col;
+            case ROTATE_90, ANTI_TRANSPOSE -> height - 1 - row;
+            case ROTATE_180, FLIP_HORIZONTAL -> width - 1 - col;
+            case ROTATE_270, TRANSPOSE -> row;
+        };
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.gameoflife;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.*;
+import java.util.function.BooleanSupplier;
+
+// Bitboard engine that pipelines generations: a row band of generation g+1 starts as soon as
+// the bands it reads in generation g are done, so several generations run as a diagonal wavefront
+// instead of waiting on a full barrier after each one.
+public final class WavefrontEngine implements EvolutionEngine {
+    private static final int MIN_BAND_ROWS = 16;
+    private static final int DEFAULT_DEPTH = 8;
+
+    private final int bandRows;
+    private final int depth;
+
+    // Band height picked from the board size and core count
+    public WavefrontEngine() {
+        this(0);
+    }
+
+    public WavefrontEngine(int bandRows) {
+        this(bandRows, DEFAULT_DEPTH);
+    }
+
+    // depth: generations in one wavefront, each a full bitboard in memory until the call returns
+    public WavefrontEngine(int bandRows, int depth) {
+        if (bandRows < 0) {
+            throw new IllegalArgumentException("Band rows cannot be negative: " + bandRows);
+        }
+        if (depth <= 0) {
+            throw new IllegalArgumentException("Pipeline depth must be positive: " + depth);
+        }
+        this.bandRows = bandRows;
+        this.depth = depth;
+    }
+
+    @Override
+    public int maxInFlight() {
+        return depth;
+    }
+
+    @Override
+    public Grid step(Grid current, GameRules rules, Executor executor)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return step(current, rules, executor, () -> false);
+    }
+
+    @Override
+    public Grid step(Grid current, GameRules rules, Executor executor, BooleanSupplier stopRequested)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        if (!current.getTopology().isBounded() || !BitKernel.supports(rules) ||
+                current.getStorageMode() == StorageMode.TILED) {
+            return current.evolveWith(rules, executor, stopRequested);
+        }
+        var result = steps(current, rules, executor, 1, stopRequested);
+        if (result.isEmpty()) {
+            throw new CancellationException("Step abandoned before all bands were computed");
+        }
+        return result.getFirst();
+    }
+
+    @Override
+    public List<Grid> steps(Grid current, GameRules rules, Executor executor, int count,
+                            BooleanSupplier stopRequested)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        if (!current.getTopology().isBounded() || !BitKernel.supports(rules) ||
+                current.getStorageMode() == StorageMode.TILED) {
+            return EvolutionEngine.super.steps(current, rules, executor, count, stopRequested);
+        }
+        var rows = current.getRows();
+        var cols = current.getCols();
+        var topology = current.getTopology();
+        var birth = BitKernel.birthMask(rules);
+        var survival = BitKernel.survivalMask(rules);
+
+        var height = bandRows > 0 ? bandRows :
+            Math.max(MIN_BAND_ROWS, rows / (Runtime.getRuntime().availableProcessors() * 4));
+        var bands = (rows + height - 1) / height;
+        var dependencies = dependencies(topology, rows, height, bands);
+
+        // levels[0] is the input; levels[k] is generation k, filled band by band
+        var levels = new long[count + 1][];
+        levels[0] = current.denseWords();
+        var done = new CompletableFuture<?>[count + 1][bands];
+        for (int band = 0; band < bands; band++) {
+            done[0][band] = CompletableFuture.completedFuture(null);
+        }
+        for (int level = 1; level <= count; level++) {
+            levels[level] = new long[levels[0].length];
+            for (int band = 0; band < bands; band++) {
+                var inputs = new CompletableFuture<?>[dependencies[band].length];
+                for (int i = 0; i < inputs.length; i++) {
+                    inputs[i] = done[level - 1][dependencies[band][i]];
+                }
+                var source = levels[level - 1];
+                var target = levels[level];
+                var from = band * height;
+                var to = Math.min(rows, from + height);
+                done[level][band] = CompletableFuture.allOf(inputs).thenRunAsync(() -> {
+                    if (stopRequested.getAsBoolean()) {
+                        throw new CancellationException();
+                    }
+                    var view = new BitKernel.Rows(source, cols, topology);
+                    var wordsPerRow = view.wordsPerRow();
+                    for (int row = from; row < to; row++) {
+                        var above = topology.wrapRow(row - 1);
+                        var below = topology.wrapRow(row + 1);
+                        for (int w = 0; w < wordsPerRow; w++) {
+                            target[row * wordsPerRow + w] = view.step(above, row, below, w, birth, survival);
+                        }
+                    }
+                }, executor);
+            }
+        }
+
+        // Hand back every generation whose bands all finished; a stop cuts the list short
+        var result = new ArrayList<Grid>(count);
+        for (int level = 1; level <= count; level++) {
+            try {
+                CompletableFuture.allOf(done[level]).get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof CancellationException) {
+                    break;
+                }
+                throw e;
+            }
+            result.add(Grid.fromWords(rows, cols, current.getBoundary(), topology, levels[level]));
+        }
+        return result;
+    }
+
+    // Bands holding the rows just above and below each band, resolved through the topology
+    private static int[][] dependencies(Topology topology, int rows, int height, int bands) {
+        var dependencies = new int[bands][];
+        for (int band = 0; band < bands; band++) {
+            var set = new TreeSet<Integer>();
+            set.add(band);
+            var above = topology.wrapRow(band * height - 1);
+            var below = topology.wrapRow(Math.min(rows, (band + 1) * height));
+            if (above != Topology.OUTSIDE) {
+                set.add(above / height);
+            }
+            if (below != Topology.OUTSIDE) {
+                set.add(below / height);
+            }
+            dependencies[band] = set.stream().mapToInt(Integer::intValue).toArray();
+        }
+        return dependencies;
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.gameoflife;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Element;
+
+import javax.imageio.ImageIO;
+import javax.imageio.metadata.IIOMetadata;
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnimationExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("GIF frames composite back to every generation of the run")
+    void gifRoundTrip() throws Exception {
+        var file = tempDir.resolve("glider.gif");
+        var expected = new ArrayList<Grid>();
+        var board = new Grid(16, 20, new BoundaryCondition.Toroidal());
+        Pattern.GLIDER.stamp(board, 1, 1, Transform.IDENTITY, StampMode.OR);
+        try (var exporter = new AnimationExporter(file, 16, 20, 3, Duration.ofMillis(100));
+             var game = new GameOfLife(board)) {
+            game.simulate(12, g -> {
+                expected.add(g.getCurrentGrid());
+                exporter.accept(g);
+            });
+        }
+
+        var frames = decodeGif(file);
+        assertEquals(expected.size(), frames.size());
+        for (int i = 0; i < frames.size(); i++) {
+            assertMatches(expected.get(i), frames.get(i), 3, "Frame " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Random soups survive LZW table resets")
+    void gifLargeSoup() throws Exception {
+        var file = tempDir.resolve("soup.gif");
+        var grid = new Grid(300, 257, new BoundaryCondition.Fixed());
+        grid.randomFill(0.4, 9);
+        var expected = new ArrayList<Grid>();
+
+        try (var exporter = new AnimationExporter(file, AnimationFormat.GIF, 300, 257, 1, Duration.ofMillis(20));
+             var game = new GameOfLife(grid)) {
+            game.simulate(3, g -> {
+                expected.add(g.getCurrentGrid());
+                exporter.accept(g);
+            });
+        }
+
+        var frames = decodeGif(file);
+        assertEquals(4, frames.size());
+        assertMatches(expected.getLast(), frames.getLast(), 1, "Last frame");
+    }
+
+    @Test
+    @DisplayName("APNG output has one fcTL per frame and a readable default image")
+    void apngStructure() throws Exception {
+        var file = tempDir.resolve("blinker.png");
+        var board = new Grid(8, 8);
+        Pattern.BLINKER.stamp(board, 2, 2, Transform.IDENTITY, StampMode.OR);
+
+        try (var exporter = new AnimationExporter(file, 8, 8, 2, Duration.ofMillis(250));
+             var game = new GameOfLife(board)) {
+            game.simulate(5, exporter);
+        }
+
+        var bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        bytes.position(8);
+        var types = new ArrayList<String>();
+        var declaredFrames = -1;
+        while (bytes.hasRemaining()) {
+            var length = bytes.getInt();
+            var type = new String(new byte[] {bytes.get(), bytes.get(), bytes.get(), bytes.get()});
+            if (type.equals("acTL")) {
+                declaredFrames = bytes.getInt(bytes.position());
+            }
+            types.add(type);
+            bytes.position(bytes.position() + length + 4);
+        }
+
+        assertEquals(6, declaredFrames);
+        assertEquals(6, types.stream().filter("fcTL"::equals).count());
+        assertEquals(5, types.stream().filter("fdAT"::equals).count());
+        assertEquals(List.of("IHDR", "acTL", "PLTE", "fcTL", "IDAT"), types.subList(0, 5));
+        assertEquals("IEND", types.getLast());
+        assertMatches(board, ImageIO.read(file.toFile()), 2, "Default image");
+    }
+
+    @Test
+    @DisplayName("Frames must match the animation size")
+    void rejectsMismatchedFrames() throws Exception {
+        try (var exporter = new AnimationExporter(tempDir.resolve("x.gif"), 4, 4, 1, Duration.ofMillis(10))) {
+            assertThrows(IllegalArgumentException.class, () -> exporter.addFrame(new Grid(5, 4)));
+        }
+        assertThrows(IllegalArgumentException.class,
+            () -> new AnimationExporter(tempDir.resolve("x.gif"), 40_000, 4, 2, Duration.ofMillis(10)));
+        assertThrows(IllegalArgumentException.class, () -> AnimationFormat.forFileName("run.mp4"));
+    }
+
+    private static void assertMatches(Grid expected, BufferedImage image, int cellSize, String message) {
+        assertEquals(expected.getCols() * cellSize, image.getWidth(), message);
+        assertEquals(expected.getRows() * cellSize, image.getHeight(), message);
+        for (int row = 0; row < expected.getRows(); row++) {
+            for (int col = 0; col < expected.getCols(); col++) {
+                var rgb = image.getRGB(col * cellSize + cellSize - 1, row * cellSize) & 0xFFFFFF;
+                var alive = expected.getCellState(Cell.of(row, col)).isAlive();
+                assertEquals(alive ? AnimationExporter.ALIVE_RGB : AnimationExporter.DEAD_RGB, rgb,
+                    message + " at " + row + "," + col);
+            }
+        }
+    }
+
+    // Decodes each GIF frame and paints it over the previous one at its offset
+    private static List<BufferedImage> decodeGif(Path file) throws Exception {
+        var reader = ImageIO.getImageReadersByFormatName("gif").next();
+        try (var input = ImageIO.createImageInputStream(file.toFile())) {
+            reader.setInput(input);
+            var count = reader.getNumImages(true);
+            var frames = new ArrayList<BufferedImage>();
+            BufferedImage canvas = null;
+            for (int i = 0; i < count; i++) {
+                var frame = reader.read(i);
+                var descriptor = descriptor(reader.getImageMetadata(i));
+                if (canvas == null) {
+                    canvas = new BufferedImage(frame.getWidth(), frame.getHeight(), BufferedImage.TYPE_INT_RGB);
+                }
+                var graphics = canvas.createGraphics();
+                graphics.drawImage(frame, Integer.parseInt(descriptor.getAttribute("imageLeftPosition")),
+                    Integer.parseInt(descriptor.getAttribute("imageTopPosition")), null);
+                graphics.dispose();
+                var copy = new BufferedImage(canvas.getWidth(), canvas.getHeight(), BufferedImage.TYPE_INT_RGB);
+                copy.setData(canvas.getData());
+                frames.add(copy);
+            }
+            return frames;
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    private static Element descriptor(IIOMetadata metadata) {
+        var root = (Element) metadata.getAsTree("javax_imageio_gif_image_1.0");
+        return (Element) root.getElementsByTagName("ImageDescriptor").item(0);
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.gameoflife;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BenchmarkTest {
+
+    private static Properties properties(String... keyValues) {
+        var properties = new Properties();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            properties.setProperty("benchmark." + keyValues[i], keyValues[i + 1]);
+        }
+        return properties;
+    }
+
+    @Test
+    @DisplayName("Options fall back to defaults and accept square or rectangular sizes")
+    void parsesOptions() {
+        var defaults = Benchmark.Options.fromProperties(new Properties());
+        var custom = Benchmark.Options.fromProperties(properties(
+            "size", "300x200", "engine", "hibernating", "threads", "2", "generations", "5", "rule", "B36/S23"));
+
+        assertAll(
+            () -> assertEquals(1024, defaults.rows()),
+            () -> assertEquals(1024, defaults.cols()),
+            () -> assertEquals("wavefront", defaults.engine()),
+            () -> assertEquals(300, custom.rows()),
+            () -> assertEquals(200, custom.cols()),
+            () -> assertEquals(2, custom.threads()),
+            () -> assertEquals("B36/S23", custom.rule())
+        );
+    }
+
+    @Test
+    @DisplayName("Invalid options are rejected before anything runs")
+    void rejectsInvalidOptions() {
+        assertThrows(IllegalArgumentException.class,
+            () -> Benchmark.Options.fromProperties(properties("size", "0")));
+        assertThrows(IllegalArgumentException.class,
+            () -> Benchmark.Options.fromProperties(properties("engine", "quantum")));
+        assertThrows(IllegalArgumentException.class,
+            () -> Benchmark.Options.fromProperties(properties("boundary", "sphere")));
+        assertThrows(IllegalArgumentException.class,
+            () -> Benchmark.Options.fromProperties(properties("generations", "0")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"standard", "hibernating", "wavefront"})
+    @DisplayName("Every engine reports the same final population and sane metrics")
+    void runsEveryEngine(String engine) throws Exception {
+        var options = new Benchmark.Options(48, 80, 0.35, 3, "toroidal", "conway", engine, 2, 12, 2);
+
+        var result = Benchmark.run(options);
+
+        try (var reference = new GameOfLife(randomGrid(options))) {
+            reference.evolve(14);
+            assertEquals(reference.getCurrentGrid().population(), result.population());
+        }
+        assertTrue(result.generationsPerSecond() > 0);
+        assertEquals(result.generationsPerSecond() * 48 * 80, result.cellUpdatesPerSecond(), 1e-6);
+        assertTrue(result.peakHeapBytes() > 0);
+        assertTrue(result.toText().contains("Generations/sec"));
+        assertTrue(result.toJson().startsWith("{\"rows\":48,\"cols\":80,"));
+        assertTrue(result.toJson().contains("\"engine\":\"" + engine + "\""));
+    }
+
+    private static Grid randomGrid(Benchmark.Options options) {
+        var grid = new Grid(options.rows(), options.cols(), new BoundaryCondition.Toroidal());
+        grid.randomFill(options.density(), options.seed());
+        return grid;
+    }
+
+    @Test
+    @DisplayName("Generations are requested in batches of the engine's depth")
+    void batchesFollowEngineDepth() throws Exception {
+        var counts = new ArrayList<Integer>();
+        var depth = new int[] {1};
+        var counting = new EvolutionEngine() {
+            @Override
+            public Grid step(Grid current, GameRules rules, Executor executor)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                return current.evolveWith(rules, executor);
+            }
+
+            @Override
+            public List<Grid> steps(Grid current, GameRules rules, Executor executor, int count,
+                                    BooleanSupplier stopRequested)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                counts.add(count);
+                return EvolutionEngine.super.steps(current, rules, executor, count, stopRequested);
+            }
+
+            @Override
+            public int maxInFlight() {
+                return depth[0];
+            }
+        };
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var grid = new Grid(".O.\n.O.\n.O.");
+            Benchmark.evolve(counting, grid, GameRules.conway(), executor, 3);
+            assertEquals(List.of(1, 1, 1), counts);
+
+            counts.clear();
+            depth[0] = 3;
+            assertEquals(grid, Benchmark.evolve(counting, grid, GameRules.conway(), executor, 8));
+            assertEquals(List.of(3, 3, 2), counts);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
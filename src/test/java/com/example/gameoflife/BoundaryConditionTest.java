@@ -86,4 +86,61 @@ class BoundaryConditionTest {
             }
         );
     }
+
+    @Test
+    @DisplayName("Fixed topology marks ghost cells as outside")
+    void fixedTopology() {
+        var topology = new BoundaryCondition.Fixed().topology(5, 5);
+
+        assertAll("Fixed topology",
+            () -> assertEquals(Topology.OUTSIDE, topology.wrapRow(-1)),
+            () -> assertEquals(Topology.OUTSIDE, topology.wrapCol(5)),
+            () -> assertEquals(3, topology.wrapRow(3)),
+            () -> assertArrayEquals(new int[] {Topology.OUTSIDE, 0, 1, 2, 3, 4, Topology.OUTSIDE},
+                topology.rowIndex()),
+            () -> assertTrue(topology.isInterior(2, 2)),
+            () -> assertFalse(topology.isInterior(0, 2)),
+            () -> assertFalse(topology.isInterior(2, 4))
+        );
+    }
+
+    @Test
+    @DisplayName("Toroidal topology precomputes wrapped indices")
+    void toroidalTopology() {
+        var topology = new BoundaryCondition.Toroidal().topology(5, 5, 2);
+
+        assertAll("Toroidal topology",
+            () -> assertArrayEquals(new int[] {3, 4, 0, 1, 2, 3, 4, 0, 1}, topology.colIndex()),
+            () -> assertEquals(4, topology.wrapRow(-1)),
+            () -> assertEquals(0, topology.wrapCol(5)),
+            () -> assertEquals(2, topology.wrapRow(12), "Values beyond the halo still wrap"),
+            () -> assertTrue(topology.isInterior(2, 2)),
+            () -> assertFalse(topology.isInterior(1, 2), "Halo of 2 widens the border")
+        );
+    }
+
+    @Test
+    @DisplayName("Infinite topology treats every cell as interior")
+    void infiniteTopology() {
+        var topology = new BoundaryCondition.Infinite().topology(5, 5);
+
+        assertAll("Infinite topology",
+            () -> assertFalse(topology.isBounded()),
+            () -> assertTrue(topology.isInterior(0, 0)),
+            () -> assertTrue(topology.isInterior(-100, 100)),
+            () -> assertEquals(-1, topology.wrapRow(-1)),
+            () -> assertEquals(1000, topology.wrapCol(1000))
+        );
+    }
+
+    @Test
+    @DisplayName("Boundary names parse case-insensitively")
+    void parseNames() {
+        assertAll("Parsing",
+            () -> assertEquals(new BoundaryCondition.Fixed(), BoundaryCondition.parse("fixed")),
+            () -> assertEquals(new BoundaryCondition.Toroidal(), BoundaryCondition.parse(" Toroidal ")),
+            () -> assertEquals(new BoundaryCondition.Infinite(), BoundaryCondition.parse("INFINITE")),
+            () -> assertThrows(IllegalArgumentException.class, () -> BoundaryCondition.parse("sphere"))
+        );
+    }
 }
@@ -0,0 +1,86 @@
+package com.example.gameoflife;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executors;
+
+import static com.example.gameoflife.EngineAssertions.assertSameEvolution;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteGridEngineTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "toroidal, 70, 130, true",
+        "toroidal, 70, 130, false",
+        "fixed, 90, 64, true",
+        "toroidal, 1, 9, false",
+        "toroidal, 2, 2, false",
+        "fixed, 3, 1, true"
+    })
+    @DisplayName("Byte engine matches the standard engine")
+    void matchesStandard(String boundary, int rows, int cols, boolean parallel) throws Exception {
+        var grid = new Grid(rows, cols, BoundaryCondition.parse(boundary));
+        grid.randomFill(0.4, rows * 31L + cols);
+
+        assertSameEvolution(grid, GameRules.conway(), new ByteGridEngine(parallel), 25);
+    }
+
+    @Test
+    @DisplayName("Byte engine follows other life-like rules")
+    void matchesHighLife() throws Exception {
+        var grid = new Grid(64, 100, new BoundaryCondition.Toroidal());
+        grid.randomFill(0.3, 12);
+
+        assertSameEvolution(grid, GameRules.highLife(), new ByteGridEngine(), 30);
+        assertSameEvolution(grid, GameRules.parse("B2/S"), new ByteGridEngine(), 10);
+    }
+
+    @Test
+    @DisplayName("Edits to a returned grid are seen on the next step")
+    void editsToOutputAreSeen() throws Exception {
+        var engine = new ByteGridEngine(false);
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var output = engine.step(new Grid(16, 16, new BoundaryCondition.Toroidal()), GameRules.conway(), executor);
+            output.fillRegion(5, 4, 1, 3, CellState.ALIVE);
+
+            var expected = output.evolveWith(GameRules.conway(), executor);
+            assertEquals(expected, engine.step(output, GameRules.conway(), executor));
+            assertEquals(3, expected.population());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Rule table has one entry per state and neighbor count")
+    void ruleTable() {
+        var table = ByteGridEngine.ruleTable(GameRules.conway());
+
+        assertEquals(18, table.length);
+        assertEquals(1, table[3], "Birth on 3");
+        assertEquals(0, table[2]);
+        assertEquals(1, table[9 + 2], "Survival on 2");
+        assertEquals(1, table[9 + 3], "Survival on 3");
+        assertEquals(0, table[9 + 4]);
+    }
+
+    @Test
+    @DisplayName("A stop request abandons the step without a partial grid")
+    void stopAbandonsStep() {
+        var grid = new Grid(256, 64, new BoundaryCondition.Toroidal());
+        grid.randomFill(0.3, 1);
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            assertThrows(CancellationException.class,
+                () -> new ByteGridEngine().step(grid, GameRules.conway(), executor, () -> true));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
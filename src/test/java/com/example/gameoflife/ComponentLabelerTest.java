@@ -0,0 +1,195 @@
+package com.example.gameoflife;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComponentLabelerTest {
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @EnumSource(StorageMode.class)
+    @DisplayName("Separate objects get their own components and bounding boxes")
+    void labelsSeparateObjects(StorageMode storage) throws Exception {
+        var grid = new Grid(40, 200, new BoundaryCondition.Fixed(), storage);
+        Pattern.BLOCK.stamp(grid, 2, 3, Transform.IDENTITY, StampMode.OR);
+        Pattern.GLIDER.stamp(grid, 10, 100, Transform.ROTATE_90, StampMode.OR);
+        Pattern.BLINKER.stamp(grid, 30, 150, Transform.IDENTITY, StampMode.OR);
+
+        var components = ComponentLabeler.label(grid, executor);
+
+        assertEquals(3, components.size());
+        var block = components.get(0);
+        assertAll(
+            () -> assertEquals(4, block.population()),
+            () -> assertEquals(2, block.top()),
+            () -> assertEquals(3, block.left()),
+            () -> assertEquals(Pattern.BLOCK.bitmap(), block.shape()),
+            () -> assertEquals(Pattern.GLIDER.bitmap().canonicalHash(), components.get(1).canonicalHash()),
+            () -> assertEquals(31, components.get(2).top()),
+            () -> assertEquals(3, components.get(2).width())
+        );
+    }
+
+    @Test
+    @DisplayName("Diagonal contact joins cells into one component")
+    void diagonalNeighborsConnect() throws Exception {
+        var grid = new Grid("""
+            O...
+            .O..
+            ..O.
+            ....
+            """);
+
+        var components = ComponentLabeler.label(grid, executor);
+
+        assertEquals(1, components.size());
+        assertEquals(3, components.getFirst().population());
+    }
+
+    @ParameterizedTest
+    @EnumSource(StorageMode.class)
+    @DisplayName("Objects touching across a torus edge are one component")
+    void toroidalWrapConnects(StorageMode storage) throws Exception {
+        var grid = new Grid(8, 8, new BoundaryCondition.Toroidal(), storage);
+        grid.setCellState(Cell.of(3, 0), CellState.ALIVE);
+        grid.setCellState(Cell.of(3, 7), CellState.ALIVE);
+
+        var fixed = new Grid(8, 8, new BoundaryCondition.Fixed());
+        fixed.setCellState(Cell.of(3, 0), CellState.ALIVE);
+        fixed.setCellState(Cell.of(3, 7), CellState.ALIVE);
+
+        assertEquals(1, ComponentLabeler.label(grid, executor).size());
+        assertEquals(2, ComponentLabeler.label(fixed, executor).size());
+    }
+
+    @Test
+    @DisplayName("Infinite boards are labeled in board coordinates, including negative ones")
+    void infiniteBoardCoordinates() throws Exception {
+        var grid = new Grid(10, 10, new BoundaryCondition.Infinite());
+        Pattern.BLOCK.stamp(grid, -20, -5, Transform.IDENTITY, StampMode.OR);
+        Pattern.BLINKER.stamp(grid, 50, 50, Transform.ROTATE_90, StampMode.OR);
+
+        var components = ComponentLabeler.label(grid, executor);
+
+        assertEquals(2, components.size());
+        assertEquals(-20, components.get(0).top());
+        assertEquals(-5, components.get(0).left());
+        assertEquals(50, components.get(1).top());
+    }
+
+    @Test
+    @DisplayName("Sparse labeling scales with the live cells, not the span between them")
+    void distantCellsOnInfiniteBoard() throws Exception {
+        var grid = new Grid(10, 10, new BoundaryCondition.Infinite());
+        grid.setCellState(Cell.of(0, 0), CellState.ALIVE);
+        grid.setCellState(Cell.of(200_000, 200_000), CellState.ALIVE);
+        grid.setCellState(Cell.of(-200_000, 200_001), CellState.ALIVE);
+
+        var components = ComponentLabeler.label(grid, executor);
+
+        assertEquals(3, components.size());
+        assertEquals(-200_000, components.get(0).top());
+        assertEquals(200_001, components.get(0).left());
+        assertEquals(200_000, components.get(2).top());
+        assertTrue(components.stream().allMatch(component -> component.height() == 1 && component.width() == 1));
+    }
+
+    @ParameterizedTest
+    @EnumSource(StorageMode.class)
+    @DisplayName("Every storage mode labels a random torus the same way")
+    void storageModesAgree(StorageMode storage) throws Exception {
+        var dense = new Grid(96, 130, new BoundaryCondition.Toroidal(), StorageMode.DENSE);
+        dense.randomFill(0.35, 5);
+        var other = new Grid(96, 130, new BoundaryCondition.Toroidal(), storage);
+        dense.getLiveCells().forEach(cell -> other.setCellState(cell, CellState.ALIVE));
+
+        assertEquals(ComponentLabeler.label(dense, executor), ComponentLabeler.label(other, executor));
+    }
+
+    @Test
+    @DisplayName("Large random boards match a sequential flood fill")
+    void matchesFloodFill() throws Exception {
+        var grid = new Grid(512, 300, new BoundaryCondition.Toroidal());
+        grid.randomFill(0.3, 42);
+
+        var components = ComponentLabeler.label(grid, executor);
+
+        assertEquals(floodFillCount(grid), components.size());
+        assertEquals(grid.population(), components.stream().mapToLong(Component::population).sum());
+    }
+
+    private static int floodFillCount(Grid grid) {
+        var remaining = grid.getLiveCells();
+        int count = 0;
+        while (!remaining.isEmpty()) {
+            var stack = new ArrayDeque<Cell>();
+            stack.push(remaining.iterator().next());
+            remaining.remove(stack.peek());
+            while (!stack.isEmpty()) {
+                for (var neighbor : grid.getNeighbors(stack.pop())) {
+                    if (remaining.remove(neighbor)) {
+                        stack.push(neighbor);
+                    }
+                }
+            }
+            count++;
+        }
+        return count;
+    }
+
+    @Test
+    @DisplayName("Library classifies objects in any orientation and phase")
+    void classifiesObjects() throws Exception {
+        var grid = new Grid(60, 60);
+        Pattern.GLIDER.stamp(grid, 2, 2, Transform.FLIP_HORIZONTAL, StampMode.OR);
+        Pattern.BLOCK.stamp(grid, 2, 20, Transform.IDENTITY, StampMode.OR);
+        Pattern.BLOCK.stamp(grid, 20, 20, Transform.IDENTITY, StampMode.OR);
+        PatternBitmap.parse("""
+            OO.
+            O.O
+            .O.
+            """).stampInto(grid, 40, 40, StampMode.OR);
+        grid.fillRegion(50, 2, 1, 7, CellState.ALIVE);
+        // Second glider phase
+        PatternBitmap.parse("""
+            O.O
+            .OO
+            .O.
+            """).stampInto(grid, 30, 5, StampMode.OR);
+
+        var census = PatternLibrary.standard().census(ComponentLabeler.label(grid, executor));
+
+        assertEquals(Map.of("glider", 2L, "block", 2L, "boat", 1L, PatternLibrary.UNKNOWN, 1L), census);
+    }
+
+    @Test
+    @DisplayName("Registering an identical shape twice is rejected")
+    void duplicateRegistration() {
+        var library = new PatternLibrary();
+
+        assertTrue(library.register("blinker", Pattern.BLINKER.bitmap()));
+        assertFalse(library.register("other", Pattern.BLINKER.bitmap(Transform.ROTATE_90)));
+        assertEquals(1, library.size());
+    }
+}
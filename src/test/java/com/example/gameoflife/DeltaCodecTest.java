@@ -0,0 +1,41 @@
+package com.example.gameoflife;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeltaCodecTest {
+
+    @Test
+    @DisplayName("Deltas round-trip through the binary encoding")
+    void roundTrip() {
+        var delta = new GenerationDelta(1234,
+            new long[] {Cell.of(0, 0).pack(), Cell.of(5, 7).pack(), Cell.of(-3, 2).pack()},
+            new long[] {Cell.of(100_000, -100_000).pack()});
+
+        var decoded = DeltaCodec.decode(DeltaCodec.encode(delta));
+
+        assertEquals(delta, decoded);
+    }
+
+    @Test
+    @DisplayName("Nearby cells encode to about one byte each")
+    void compactEncoding() {
+        var births = new long[64];
+        for (int col = 0; col < births.length; col++) {
+            births[col] = Cell.of(10, col).pack();
+        }
+        var encoded = DeltaCodec.encode(new GenerationDelta(1, births, new long[0]));
+
+        assertTrue(encoded.length < 64 + 16, "Encoded size was " + encoded.length);
+    }
+
+    @Test
+    @DisplayName("Truncated frames are rejected")
+    void corruptFrame() {
+        var encoded = DeltaCodec.encode(new GenerationDelta(1, new long[] {1, 2, 3}, new long[0]));
+        var truncated = java.util.Arrays.copyOf(encoded, 3);
+
+        assertThrows(RuntimeException.class, () -> DeltaCodec.decode(truncated));
+    }
+}
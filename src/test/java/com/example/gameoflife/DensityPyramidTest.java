@@ -0,0 +1,77 @@
+package com.example.gameoflife;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DensityPyramidTest {
+
+    private static void assertMatches(Grid grid, DensityPyramid pyramid) {
+        for (int level = 0; level < pyramid.levels(); level++) {
+            var size = DensityPyramid.blockSize(level);
+            for (int blockRow = 0; blockRow * size < grid.getRows(); blockRow++) {
+                for (int blockCol = 0; blockCol * size < grid.getCols(); blockCol++) {
+                    assertEquals(grid.populationIn(blockRow * size, blockCol * size, size, size),
+                        pyramid.count(level, blockRow, blockCol),
+                        "level %d block %d,%d".formatted(level, blockRow, blockCol));
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(StorageMode.class)
+    @DisplayName("Every level counts the live cells in its blocks")
+    void countsMatchGrid(StorageMode mode) {
+        var grid = new Grid(150, 300, new BoundaryCondition.Toroidal(), mode);
+        grid.randomFill(0.3, 5);
+        var pyramid = new DensityPyramid(grid);
+
+        assertAll(
+            () -> assertEquals(5, pyramid.levels()),
+            () -> assertEquals(grid.population(), pyramid.count(pyramid.levels() - 1, 0, 0)),
+            () -> assertMatches(grid, pyramid));
+    }
+
+    @Test
+    @DisplayName("Listening to a game keeps the pyramid current, both incrementally and after rebuilds")
+    void tracksGenerations() throws Exception {
+        var grid = new Grid(200, 130, new BoundaryCondition.Toroidal());
+        grid.randomFill(0.35, 9);
+        var pyramid = new DensityPyramid(grid);
+        try (var game = new GameOfLife(grid)) {
+            game.addListener(pyramid);
+            // Early generations churn enough to rebuild; later ones settle into small deltas
+            for (int i = 0; i < 30; i++) {
+                game.evolve();
+                assertMatches(game.getCurrentGrid(), pyramid);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Rendering returns densities at any zoom")
+    void rendersViewports() {
+        var grid = new Grid(256, 256);
+        grid.fillRegion(0, 0, 128, 256, CellState.ALIVE);
+        grid.setCellState(Cell.of(200, 10), CellState.ALIVE);
+        var pyramid = new DensityPyramid(grid);
+
+        var whole = pyramid.render(0, 0, 256, 256, 1, 1);
+        var halves = pyramid.render(0, 0, 256, 256, 2, 1);
+        var exact = pyramid.render(198, 8, 4, 4, 4, 4);
+        // Half off the board: only the on-board half counts towards the pixel
+        var offBoard = pyramid.render(-64, 0, 128, 128, 1, 1);
+
+        assertAll(
+            () -> assertEquals((128 * 256 + 1) / (256f * 256f), whole[0], 1e-6),
+            () -> assertEquals(1f, halves[0], 1e-6),
+            () -> assertEquals(1f / (128 * 256), halves[1], 1e-6),
+            () -> assertEquals(1f, exact[2 * 4 + 2]),
+            () -> assertEquals(1f, (float) java.util.stream.IntStream.range(0, exact.length).mapToDouble(i -> exact[i]).sum()),
+            () -> assertEquals(1f, offBoard[0], 1e-6),
+            () -> assertThrows(IllegalArgumentException.class, () -> pyramid.render(0, 0, 0, 10, 1, 1)));
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.gameoflife;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Shared checks for alternative engines: each must reproduce the standard engine exactly
+final class EngineAssertions {
+
+    private EngineAssertions() {}
+
+    // Compares every generation one step at a time, then the final board of one batched call
+    // (which pipelining engines such as WavefrontEngine spread over several generations)
+    static void assertSameEvolution(Grid initial, GameRules rules, EvolutionEngine engine, int generations)
+            throws Exception {
+        try (var reference = new GameOfLife(initial, rules);
+             var candidate = new GameOfLife(initial, rules, engine)) {
+            for (int g = 1; g <= generations; g++) {
+                reference.evolve();
+                candidate.evolve();
+                assertEquals(reference.getCurrentGrid(), candidate.getCurrentGrid(), "Generation " + g);
+            }
+        }
+        try (var reference = new GameOfLife(initial, rules);
+             var candidate = new GameOfLife(initial, rules, engine)) {
+            reference.evolve(generations);
+            candidate.evolve(generations);
+            assertEquals(reference.getGeneration(), candidate.getGeneration());
+            assertEquals(reference.getCurrentGrid(), candidate.getCurrentGrid(), "Batched run");
+        }
+    }
+}
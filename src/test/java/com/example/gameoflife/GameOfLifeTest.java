@@ -3,6 +3,12 @@ package com.example.gameoflife;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.AfterEach;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class GameOfLifeTest {
@@ -153,4 +159,261 @@ class GameOfLifeTest {
         assertEquals(CellState.DEAD, rules.nextState(CellState.DEAD, 2));
         assertEquals(CellState.DEAD, rules.nextState(CellState.DEAD, 5));
     }
+
+    @Test
+    @DisplayName("Rule strings parse presets and B/S notation")
+    void parseRules() {
+        var seeds = GameRules.parse("b2/s");
+
+        assertEquals(CellState.ALIVE, seeds.nextState(CellState.DEAD, 2));
+        assertEquals(CellState.DEAD, seeds.nextState(CellState.ALIVE, 2));
+        assertEquals(CellState.ALIVE, GameRules.parse("HighLife").nextState(CellState.DEAD, 6));
+        assertEquals(CellState.ALIVE, GameRules.parse("B3/S23").nextState(CellState.ALIVE, 3));
+        assertInstanceOf(LargerThanLifeRules.class, GameRules.parse("bosco"));
+        assertThrows(IllegalArgumentException.class, () -> GameRules.parse("B9/S23"));
+    }
+
+    @Test
+    @DisplayName("Rule names parse the same under any default locale")
+    void parseRulesIgnoresDefaultLocale() {
+        var original = java.util.Locale.getDefault();
+        try {
+            // Turkish upper-cases 'i' to a dotted capital I
+            java.util.Locale.setDefault(java.util.Locale.forLanguageTag("tr-TR"));
+            assertEquals(CellState.ALIVE, GameRules.parse("highlife").nextState(CellState.DEAD, 6));
+            assertEquals(CellState.ALIVE, GameRules.parse("life").nextState(CellState.DEAD, 3));
+        } finally {
+            java.util.Locale.setDefault(original);
+        }
+    }
+
+    @Test
+    @DisplayName("Listeners receive one delta per generation")
+    void listenersReceiveDeltas() throws Exception {
+        game = new GameOfLife(Pattern.BLINKER.toGrid());
+        var deltas = new java.util.ArrayList<GenerationDelta>();
+        game.addListener((delta, _) -> deltas.add(delta));
+
+        game.evolve(2);
+
+        assertEquals(2, deltas.size());
+        assertEquals(1, deltas.getFirst().generation());
+        assertEquals(4, deltas.getFirst().size());
+    }
+
+    @Test
+    @DisplayName("Rewinding restores an earlier generation and allows re-running")
+    void rewindWithHistory() throws Exception {
+        game = new GameOfLife(Pattern.GLIDER.toGrid(new BoundaryCondition.Toroidal()));
+        game.enableHistory(2, 1 << 20);
+
+        var gen0 = game.getCurrentGrid();
+        game.evolve(3);
+        var gen3 = game.getCurrentGrid();
+        game.evolve(4);
+
+        game.rewindTo(3);
+        assertEquals(3, game.getGeneration());
+        assertEquals(gen3, game.getCurrentGrid());
+        assertEquals(3, game.getHistory().orElseThrow().lastGeneration());
+
+        game.rewindTo(0);
+        assertEquals(gen0, game.getCurrentGrid());
+        game.evolve(3);
+        assertEquals(gen3, game.getCurrentGrid());
+    }
+
+    @Test
+    @DisplayName("Rewinding without history fails")
+    void rewindWithoutHistory() {
+        game = new GameOfLife(new Grid(3, 3));
+
+        assertTrue(game.getHistory().isEmpty());
+        assertThrows(IllegalStateException.class, () -> game.rewindTo(0));
+    }
+
+    @Test
+    @DisplayName("Async evolution completes with the generation reached")
+    void evolveAsyncCompletes() throws Exception {
+        game = new GameOfLife(Pattern.GLIDER.toGrid(new BoundaryCondition.Toroidal()));
+
+        var run = game.evolveAsync(4);
+
+        assertEquals(4, run.get(10, TimeUnit.SECONDS));
+        assertEquals(4, run.getCompletedSteps());
+        assertEquals(1.0, run.getProgress());
+        assertEquals(4, game.getGeneration());
+        assertEquals(reference(Pattern.GLIDER.toGrid(new BoundaryCondition.Toroidal()), 4), game.getCurrentGrid());
+    }
+
+    @Test
+    @DisplayName("Cancelling an async run leaves the game at a whole generation")
+    void evolveAsyncCancel() throws Exception {
+        var initial = new Grid(128, 128, new BoundaryCondition.Toroidal());
+        initial.randomFill(0.3, 7);
+        game = new GameOfLife(initial);
+
+        var run = game.evolveAsync(100_000);
+        while (run.getCompletedSteps() < 2) {
+            Thread.onSpinWait();
+        }
+        assertTrue(run.cancel(true));
+        var stoppedAt = run.whenStopped().get(10, TimeUnit.SECONDS);
+
+        assertTrue(run.isCancelled());
+        assertEquals(stoppedAt, game.getGeneration());
+        assertEquals(run.getCompletedSteps(), stoppedAt);
+        assertEquals(reference(initial, stoppedAt), game.getCurrentGrid());
+    }
+
+    @Test
+    @DisplayName("A missed deadline fails the run with a TimeoutException")
+    void evolveAsyncDeadline() throws Exception {
+        var initial = new Grid(128, 128, new BoundaryCondition.Toroidal());
+        initial.randomFill(0.3, 7);
+        game = new GameOfLife(initial, GameRules.conway(), new HibernatingEngine());
+
+        var run = game.evolveAsync(Integer.MAX_VALUE, Duration.ofMillis(50));
+        var failure = assertThrows(ExecutionException.class, () -> run.get(10, TimeUnit.SECONDS));
+        var stoppedAt = run.whenStopped().get(10, TimeUnit.SECONDS);
+
+        assertInstanceOf(TimeoutException.class, failure.getCause());
+        assertEquals(stoppedAt, game.getGeneration());
+        assertEquals(reference(initial, stoppedAt), game.getCurrentGrid());
+        assertThrows(IllegalArgumentException.class, () -> game.evolveAsync(-1));
+    }
+
+    @Test
+    @DisplayName("Engines are asked for no more generations per call than they keep in flight")
+    void batchesFollowEngineDepth() throws Exception {
+        var counts = new java.util.ArrayList<Integer>();
+        var counting = new EvolutionEngine() {
+            @Override
+            public Grid step(Grid current, GameRules rules, java.util.concurrent.Executor executor)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                return current.evolveWith(rules, executor);
+            }
+
+            @Override
+            public java.util.List<Grid> steps(Grid current, GameRules rules, java.util.concurrent.Executor executor,
+                                              int count, java.util.function.BooleanSupplier stopRequested)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                counts.add(count);
+                return EvolutionEngine.super.steps(current, rules, executor, count, stopRequested);
+            }
+        };
+        game = new GameOfLife(blinker(), GameRules.conway(), counting);
+        var published = new java.util.ArrayList<Integer>();
+        game.addListener((delta, _) -> published.add(game.getSnapshot().generation()));
+
+        game.evolve(5);
+
+        assertEquals(java.util.List.of(1, 1, 1, 1, 1), counts);
+        // Each listener call sees the previous generation already published
+        assertEquals(java.util.List.of(0, 1, 2, 3, 4), published);
+        assertEquals(1, EvolutionEngine.standard().maxInFlight());
+        assertEquals(3, new WavefrontEngine(0, 3).maxInFlight());
+        assertThrows(IllegalArgumentException.class, () -> new WavefrontEngine(0, 0));
+    }
+
+    @Test
+    @DisplayName("Snapshots pair a generation with its board and never change afterwards")
+    void snapshotsAreImmutable() throws Exception {
+        game = new GameOfLife(blinker());
+        var first = game.getSnapshot();
+        first.toGrid().fillRegion(0, 0, 3, 3, CellState.ALIVE);
+        game.evolve();
+        var second = game.getSnapshot();
+
+        assertAll(
+            () -> assertEquals(0, first.generation()),
+            () -> assertEquals(1, second.generation()),
+            () -> assertEquals(blinker(), first.toGrid()),
+            () -> assertNotEquals(first.getLiveCells(), second.getLiveCells()),
+            () -> assertEquals(3, second.population()));
+    }
+
+    @Test
+    @DisplayName("Readers see consistent snapshots while an async run evolves the board")
+    void snapshotsDuringAsyncRun() throws Exception {
+        var horizontal = blinker().getLiveCells();
+        game = new GameOfLife(blinker());
+
+        var run = game.evolveAsync(20_000);
+        var reads = 0;
+        while (!run.isDone()) {
+            // The blinker's phase must always match the generation it is published with
+            var snapshot = game.getSnapshot();
+            assertEquals(snapshot.generation() % 2 == 0, snapshot.getLiveCells().equals(horizontal),
+                "generation " + snapshot.generation());
+            reads++;
+        }
+        assertEquals(20_000, run.get(10, TimeUnit.SECONDS));
+        assertTrue(reads > 0);
+    }
+
+    @Test
+    @DisplayName("Queued edits land in the next generation, last edit per cell winning")
+    void editsApplyAtNextGeneration() throws Exception {
+        var initial = new Grid(10, 10);
+        initial.fillRegion(1, 1, 2, 2, CellState.ALIVE);
+        game = new GameOfLife(initial);
+
+        game.submitEdit(Cell.of(6, 5), CellState.ALIVE);
+        game.submitEdits(java.util.List.of(Cell.of(6, 6), Cell.of(6, 7)), CellState.ALIVE);
+        game.submitEdit(Cell.of(8, 8), CellState.ALIVE);
+        game.submitEdit(Cell.of(8, 8), CellState.DEAD);
+        game.submitEdit(Cell.of(50, 50), CellState.ALIVE);
+        // Not applied until a generation is computed
+        assertEquals(initial, game.getCurrentGrid());
+        game.evolve();
+
+        var expected = initial.copy();
+        expected.fillRegion(6, 5, 1, 3, CellState.ALIVE);
+        assertEquals(reference(expected, 1), game.getCurrentGrid());
+        assertEquals(1, game.getGeneration());
+    }
+
+    @Test
+    @DisplayName("Edits from other threads during a run keep listeners' deltas consistent")
+    void concurrentEditsDuringRun() throws Exception {
+        var initial = new Grid(64, 64, new BoundaryCondition.Toroidal());
+        initial.randomFill(0.3, 5);
+        game = new GameOfLife(initial);
+        var replayed = initial.copy();
+        game.addListener((delta, grid) -> delta.applyTo(replayed));
+
+        var run = game.evolveAsync(500);
+        var editors = new java.util.ArrayList<Thread>();
+        for (int t = 0; t < 3; t++) {
+            var seed = t;
+            editors.add(new Thread(() -> {
+                var random = new java.util.Random(seed);
+                for (int i = 0; i < 2_000; i++) {
+                    game.submitEdit(Cell.of(random.nextInt(64), random.nextInt(64)),
+                        random.nextBoolean() ? CellState.ALIVE : CellState.DEAD);
+                }
+            }));
+        }
+        editors.forEach(Thread::start);
+        for (var editor : editors) {
+            editor.join();
+        }
+
+        assertEquals(500, run.get(10, TimeUnit.SECONDS));
+        assertEquals(game.getCurrentGrid(), replayed);
+    }
+
+    private static Grid blinker() {
+        var grid = new Grid(5, 5);
+        grid.fillRegion(2, 1, 1, 3, CellState.ALIVE);
+        return grid;
+    }
+
+    private static Grid reference(Grid initial, int generations) throws Exception {
+        try (var reference = new GameOfLife(initial)) {
+            reference.evolve(generations);
+            return reference.getCurrentGrid();
+        }
+    }
 }
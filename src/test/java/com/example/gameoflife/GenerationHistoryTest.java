@@ -0,0 +1,98 @@
+package com.example.gameoflife;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenerationHistoryTest {
+
+    private List<Grid> generations;
+
+    @BeforeEach
+    void setup() throws Exception {
+        generations = new ArrayList<>();
+        var initial = new Grid(12, 12, new BoundaryCondition.Toroidal());
+        initial.setCellState(Cell.of(1, 2), CellState.ALIVE);
+        initial.setCellState(Cell.of(2, 3), CellState.ALIVE);
+        initial.setCellState(Cell.of(3, 1), CellState.ALIVE);
+        initial.setCellState(Cell.of(3, 2), CellState.ALIVE);
+        initial.setCellState(Cell.of(3, 3), CellState.ALIVE);
+        try (var game = new GameOfLife(initial)) {
+            game.simulate(20, g -> generations.add(g.getCurrentGrid()));
+        }
+    }
+
+    private GenerationHistory recordAll(int keyframeInterval, long byteBudget) {
+        var history = new GenerationHistory(keyframeInterval, byteBudget);
+        history.record(0, generations.getFirst(), null);
+        for (int g = 1; g < generations.size(); g++) {
+            history.record(g, generations.get(g),
+                GenerationDelta.between(g, generations.get(g - 1), generations.get(g)));
+        }
+        return history;
+    }
+
+    @Test
+    @DisplayName("Delta captures births and deaths between generations")
+    void deltaBetweenGenerations() {
+        var delta = GenerationDelta.between(1, generations.get(0), generations.get(1));
+
+        assertFalse(delta.isEmpty());
+        var rebuilt = generations.get(0).copy();
+        delta.applyTo(rebuilt);
+        assertEquals(generations.get(1), rebuilt);
+        delta.revert(rebuilt);
+        assertEquals(generations.get(0), rebuilt);
+    }
+
+    @Test
+    @DisplayName("Random access reconstructs every retained generation")
+    void randomAccess() {
+        var history = recordAll(4, Long.MAX_VALUE);
+
+        assertEquals(0, history.firstGeneration());
+        assertEquals(20, history.lastGeneration());
+        for (int g : new int[] {20, 0, 7, 13, 4}) {
+            assertEquals(generations.get(g), history.gridAt(g), "Generation " + g);
+        }
+    }
+
+    @Test
+    @DisplayName("Cursor steps backward and forward across keyframes")
+    void cursorStepping() {
+        var history = recordAll(3, Long.MAX_VALUE);
+        var cursor = history.cursor(20);
+
+        while (cursor.stepBack()) {
+            assertEquals(generations.get(cursor.getGeneration()), cursor.getGrid());
+        }
+        assertEquals(0, cursor.getGeneration());
+        while (cursor.stepForward()) {
+            assertEquals(generations.get(cursor.getGeneration()), cursor.getGrid());
+        }
+        assertEquals(20, cursor.getGeneration());
+    }
+
+    @Test
+    @DisplayName("Byte budget evicts oldest segments first")
+    void budgetEviction() {
+        var history = recordAll(5, 1_000);
+
+        assertTrue(history.sizeInBytes() <= 1_000);
+        assertTrue(history.firstGeneration() > 0);
+        assertEquals(0, history.firstGeneration() % 5, "Eviction keeps whole keyframe segments");
+        assertEquals(20, history.lastGeneration());
+        assertEquals(generations.get(history.firstGeneration()), history.gridAt(history.firstGeneration()));
+        assertThrows(IllegalArgumentException.class, () -> history.gridAt(0));
+    }
+
+    @Test
+    @DisplayName("Invalid history settings are rejected")
+    void invalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new GenerationHistory(0, 1_000));
+        assertThrows(IllegalArgumentException.class, () -> new GenerationHistory(4, 0));
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -125,4 +126,136 @@ class GridTest {
         grid2.setCellState(Cell.of(2, 2), CellState.ALIVE);
         assertNotEquals(grid1, grid2);
     }
+
+    @Test
+    @DisplayName("Border neighbor counting matches wrap semantics")
+    void borderNeighborsMatchWrap() {
+        var toroidalGrid = new Grid(4, 6, new BoundaryCondition.Toroidal());
+        toroidalGrid.setCellState(Cell.of(3, 5), CellState.ALIVE);
+        toroidalGrid.setCellState(Cell.of(0, 5), CellState.ALIVE);
+        toroidalGrid.setCellState(Cell.of(1, 1), CellState.ALIVE);
+
+        assertEquals(3, toroidalGrid.countLiveNeighbors(Cell.of(0, 0)));
+        assertEquals(2, toroidalGrid.countLiveNeighbors(Cell.of(3, 4)));
+        assertEquals(5, grid.getNeighbors(Cell.of(0, 2)).size());
+        assertEquals(8, grid.getNeighbors(Cell.of(2, 2)).size());
+    }
+
+    @ParameterizedTest
+    @EnumSource(StorageMode.class)
+    @DisplayName("Filling and clearing regions clips to the board")
+    void fillAndClearRegion(StorageMode storage) {
+        var board = new Grid(10, 100, new BoundaryCondition.Fixed(), storage);
+
+        board.fillRegion(2, 60, 3, 10, CellState.ALIVE);
+        assertEquals(30, board.population());
+        assertTrue(board.getCellState(Cell.of(3, 63)).isAlive());
+        assertTrue(board.getCellState(Cell.of(4, 64)).isAlive());
+        assertFalse(board.getCellState(Cell.of(5, 64)).isAlive());
+
+        board.clearRegion(3, 0, 1, 100);
+        assertEquals(20, board.population());
+
+        board.fillRegion(8, 95, 10, 10, CellState.ALIVE);
+        assertEquals(30, board.population(), "Region past the edge is clipped");
+    }
+
+    @ParameterizedTest
+    @EnumSource(StorageMode.class)
+    @DisplayName("Rows round-trip through long and BitSet bitmaps")
+    void rowBitmapsRoundTrip(StorageMode storage) {
+        var board = new Grid(3, 130, new BoundaryCondition.Toroidal(), storage);
+        var bits = new long[] {0x8000_0000_0000_0001L, 0x10L, -1L};
+
+        board.importRow(1, bits);
+        assertArrayEquals(new long[] {0x8000_0000_0000_0001L, 0x10L, 0x3L}, board.exportRow(1),
+            "Bits beyond the last column are dropped");
+        assertTrue(board.getCellState(Cell.of(1, 68)).isAlive());
+        assertEquals(5, board.population());
+
+        var bitSet = new java.util.BitSet();
+        bitSet.set(0, 130);
+        board.importRow(2, bitSet);
+        assertEquals(130, board.exportRowBits(2).cardinality());
+        assertThrows(IndexOutOfBoundsException.class, () -> board.exportRow(3));
+    }
+
+    @Test
+    @DisplayName("Random fill is seeded and honours density")
+    void randomFill() {
+        var first = new Grid(200, 200);
+        var second = new Grid(200, 200, new BoundaryCondition.Fixed(), StorageMode.SPARSE);
+        first.randomFill(0.3, 42);
+        second.randomFill(0.3, 42);
+
+        assertEquals(first, second);
+        assertEquals(0.3, first.population() / 40_000.0, 0.02);
+
+        first.randomFill(1.0, 7);
+        assertEquals(40_000, first.population());
+        first.randomFill(0.0, 7);
+        assertEquals(0, first.population());
+        assertThrows(IllegalArgumentException.class, () -> first.randomFill(1.5, 7));
+    }
+
+    @Test
+    @DisplayName("Live cells stream only covers the requested region")
+    void liveCellsInRegion() {
+        var dense = new Grid(100, 200);
+        dense.randomFill(0.5, 3);
+        var sparse = new Grid(100, 200, new BoundaryCondition.Fixed(), StorageMode.SPARSE);
+        dense.getLiveCells().forEach(cell -> sparse.setCellState(cell, CellState.ALIVE));
+
+        var expected = dense.getLiveCells().stream()
+            .filter(cell -> cell.row() >= 10 && cell.row() < 30 && cell.col() >= 50 && cell.col() < 140)
+            .collect(java.util.stream.Collectors.toSet());
+        assertEquals(expected, dense.liveCellsIn(10, 50, 20, 90).collect(java.util.stream.Collectors.toSet()));
+        assertEquals(expected, sparse.liveCellsIn(10, 50, 20, 90).collect(java.util.stream.Collectors.toSet()));
+        assertEquals(dense, sparse);
+        assertEquals(dense.hashCode(), sparse.hashCode());
+    }
+
+    @ParameterizedTest
+    @EnumSource(StorageMode.class)
+    @DisplayName("Live cells stream clips regions that overhang a bounded board")
+    void liveCellsInClipsToBoard(StorageMode storage) {
+        var board = new Grid(4, 70, new BoundaryCondition.Fixed(), storage);
+        board.fillRegion(1, 0, 1, 70, CellState.ALIVE);
+
+        assertEquals(0, board.liveCellsIn(-3, -3, 3, 3).count(), "Region entirely above and left of the board");
+        assertEquals(0, board.liveCellsIn(0, -5, 1, 200).count(), "Wide region must not read the next row");
+        assertEquals(70, board.liveCellsIn(-1, -10, 3, 100).count());
+        assertTrue(board.liveCellsIn(1, 60, 1, 50).allMatch(cell -> cell.row() == 1 && cell.col() < 70));
+    }
+
+    @ParameterizedTest
+    @EnumSource(StorageMode.class)
+    @DisplayName("Region population matches the live cells inside it, clipped to the board")
+    void populationInRegion(StorageMode mode) {
+        var board = new Grid(100, 200, new BoundaryCondition.Fixed(), mode);
+        board.randomFill(0.3, 11);
+
+        // Small regions probe coordinates on sparse boards, large ones scan
+        for (var region : new int[][] {{10, 50, 20, 90}, {3, 7, 2, 3}, {0, 0, 100, 200}, {-5, 190, 20, 40}}) {
+            var expected = board.getLiveCells().stream()
+                .filter(cell -> cell.row() >= region[0] && cell.row() < region[0] + region[2] &&
+                    cell.col() >= region[1] && cell.col() < region[1] + region[3])
+                .count();
+            assertAll(
+                () -> assertEquals(expected, board.populationIn(region[0], region[1], region[2], region[3])),
+                () -> assertEquals(expected, board.liveCellsIn(region[0], region[1], region[2], region[3]).count()));
+        }
+        assertEquals(0, board.populationIn(200, 0, 10, 10));
+        assertEquals(0, board.liveCellsIn(10, 10, 0, 5).count());
+    }
+
+    @Test
+    @DisplayName("Dense storage needs a bounded boundary")
+    void denseRequiresBoundedBoundary() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new Grid(5, 5, new BoundaryCondition.Infinite(), StorageMode.DENSE));
+        assertEquals(StorageMode.SPARSE,
+            StorageMode.defaultFor(new BoundaryCondition.Infinite(), 5, 5));
+        assertEquals(StorageMode.DENSE, StorageMode.defaultFor(new BoundaryCondition.Fixed(), 5, 5));
+    }
 }
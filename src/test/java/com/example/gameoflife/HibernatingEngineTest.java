@@ -0,0 +1,89 @@
+package com.example.gameoflife;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.Executors;
+
+import static com.example.gameoflife.EngineAssertions.assertSameEvolution;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HibernatingEngineTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 32})
+    @DisplayName("Hibernating engine matches the standard engine on a toroidal soup")
+    void matchesStandardOnTorus(int tileRows) throws Exception {
+        var grid = new Grid(50, 150, new BoundaryCondition.Toroidal());
+        grid.randomFill(0.35, 17);
+
+        assertSameEvolution(grid, GameRules.conway(), new HibernatingEngine(tileRows), 40);
+    }
+
+    @Test
+    @DisplayName("Hibernating engine matches the standard engine on a fixed board with HighLife")
+    void matchesStandardOnFixedBoard() throws Exception {
+        var grid = new Grid(70, 65);
+        grid.randomFill(0.4, 4);
+
+        assertSameEvolution(grid, GameRules.highLife(), new HibernatingEngine(16), 40);
+    }
+
+    @Test
+    @DisplayName("Still lifes and blinkers far apart put most tiles to sleep")
+    void stableTilesSleep() throws Exception {
+        var grid = new Grid(256, 256, new BoundaryCondition.Toroidal());
+        Pattern.BLOCK.stamp(grid, 10, 10, Transform.IDENTITY, StampMode.OR);
+        Pattern.BLINKER.stamp(grid, 100, 100, Transform.IDENTITY, StampMode.OR);
+        Pattern.BEACON.stamp(grid, 200, 30, Transform.IDENTITY, StampMode.OR);
+        var engine = new HibernatingEngine(32);
+
+        try (var game = new GameOfLife(grid, GameRules.conway(), engine)) {
+            game.evolve();
+            assertEquals(8 * 4, engine.getComputedTiles(), "First step computes every tile");
+            game.evolve(3);
+            assertEquals(0, engine.getComputedTiles(), "Period-2 tiles replay instead of recomputing");
+            assertEquals(32, engine.getSleepingTiles());
+            assertEquals(grid, game.getCurrentGrid(), "Everything has period 1 or 2");
+        }
+    }
+
+    @Test
+    @DisplayName("A glider wakes tiles as it crosses their borders")
+    void gliderWakesTiles() throws Exception {
+        var grid = new Grid(128, 128, new BoundaryCondition.Toroidal());
+        Pattern.GLIDER.stamp(grid, 28, 60, Transform.IDENTITY, StampMode.OR);
+
+        assertSameEvolution(grid, GameRules.conway(), new HibernatingEngine(8), 120);
+    }
+
+    @Test
+    @DisplayName("Cells stamped into a sleeping tile of a returned grid wake it")
+    void editsToOutputWakeTiles() throws Exception {
+        var engine = new HibernatingEngine(32);
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var grid = new Grid(64, 256, new BoundaryCondition.Toroidal());
+            Pattern.BLOCK.stamp(grid, 10, 10, Transform.IDENTITY, StampMode.OR);
+            for (int i = 0; i < 4; i++) {
+                grid = engine.step(grid, GameRules.conway(), executor);
+            }
+            Pattern.BLINKER.stamp(grid, 40, 150, Transform.IDENTITY, StampMode.OR);
+
+            assertEquals(grid.evolveWith(GameRules.conway(), executor), engine.step(grid, GameRules.conway(), executor));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Unbounded boards fall back to the standard engine")
+    void infiniteFallsBack() throws Exception {
+        var grid = Pattern.GLIDER.toGrid(new BoundaryCondition.Infinite());
+
+        assertSameEvolution(grid, GameRules.conway(), new HibernatingEngine(), 8);
+        assertThrows(IllegalArgumentException.class, () -> new HibernatingEngine(0));
+    }
+}
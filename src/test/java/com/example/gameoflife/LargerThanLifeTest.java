@@ -0,0 +1,111 @@
+package com.example.gameoflife;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LargerThanLifeTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setup() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void cleanup() {
+        executor.shutdown();
+    }
+
+    // Reference implementation: walk the full (2r+1)^2 box for every cell
+    private static Grid naiveStep(Grid grid, LargerThanLifeRules rules) {
+        var next = new Grid(grid.getRows(), grid.getCols(), grid.getBoundary());
+        var r = rules.radius();
+        for (int row = 0; row < grid.getRows(); row++) {
+            for (int col = 0; col < grid.getCols(); col++) {
+                int count = 0;
+                for (int dr = -r; dr <= r; dr++) {
+                    for (int dc = -r; dc <= r; dc++) {
+                        if ((dr != 0 || dc != 0 || rules.includeCenter()) &&
+                                grid.getCellState(Cell.of(row + dr, col + dc)).isAlive()) {
+                            count++;
+                        }
+                    }
+                }
+                var cell = Cell.of(row, col);
+                next.setCellState(cell, rules.nextState(grid.getCellState(cell), count));
+            }
+        }
+        return next;
+    }
+
+    @Test
+    @DisplayName("Radius-1 rules reproduce Conway's Life")
+    void radiusOneMatchesConway() throws Exception {
+        var grid = new Grid(70, 90, new BoundaryCondition.Toroidal());
+        grid.randomFill(0.35, 11);
+
+        var expected = grid.evolveWith(GameRules.conway(), executor);
+        var actual = grid.evolveWith(LargerThanLifeRules.conway(), executor);
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Bosco's rule matches brute-force counting on both bounded boundaries")
+    void boscoMatchesNaive() throws Exception {
+        for (var boundary : new BoundaryCondition[] {new BoundaryCondition.Fixed(), new BoundaryCondition.Toroidal()}) {
+            var grid = new Grid(80, 75, boundary);
+            grid.randomFill(0.5, 5);
+            var rules = LargerThanLifeRules.bosco();
+
+            var expected = grid;
+            var actual = grid;
+            for (int i = 0; i < 3; i++) {
+                expected = naiveStep(expected, rules);
+                actual = actual.evolveWith(rules, executor);
+                assertEquals(expected, actual, boundary + " generation " + (i + 1));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Radius larger than the board wraps repeatedly on a torus")
+    void radiusLargerThanBoard() throws Exception {
+        var grid = new Grid(4, 5, new BoundaryCondition.Toroidal());
+        grid.randomFill(0.5, 9);
+        var rules = new LargerThanLifeRules(6, false, 40, 80, 30, 90);
+
+        assertEquals(naiveStep(grid, rules), grid.evolveWith(rules, executor));
+    }
+
+    @Test
+    @DisplayName("GameOfLife runs range rules through the summed counter")
+    void runsInGameOfLife() throws Exception {
+        var grid = new Grid(60, 60, new BoundaryCondition.Toroidal());
+        grid.randomFill(0.5, 1);
+        var expected = naiveStep(naiveStep(grid, LargerThanLifeRules.bosco()), LargerThanLifeRules.bosco());
+
+        try (var game = new GameOfLife(grid, LargerThanLifeRules.bosco())) {
+            game.evolve(2);
+            assertEquals(expected, game.getCurrentGrid());
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid rules and unbounded boards are rejected")
+    void invalidConfigurations() {
+        assertThrows(IllegalArgumentException.class, () -> new LargerThanLifeRules(0, false, 3, 3, 2, 3));
+        assertThrows(IllegalArgumentException.class, () -> new LargerThanLifeRules(2, false, 5, 3, 2, 3));
+        assertEquals(120, LargerThanLifeRules.bosco().neighborhoodSize() - 1);
+
+        var infinite = new Grid(10, 10, new BoundaryCondition.Infinite());
+        assertThrows(IllegalArgumentException.class,
+            () -> infinite.evolveWith(LargerThanLifeRules.bosco(), executor));
+    }
+}
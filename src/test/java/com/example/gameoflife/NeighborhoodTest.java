@@ -0,0 +1,126 @@
+package com.example.gameoflife;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NeighborhoodTest {
+
+    // Next board by counting every cell's neighbors through Grid.getNeighbors
+    private static Grid bruteForce(Grid grid, GameRules rules) {
+        var next = new Grid(grid.getRows(), grid.getCols(), grid.getBoundary());
+        for (int row = 0; row < grid.getRows(); row++) {
+            for (int col = 0; col < grid.getCols(); col++) {
+                var cell = Cell.of(row, col);
+                var count = (int) grid.getNeighbors(cell, rules.neighborhood()).stream()
+                    .filter(neighbor -> grid.getCellState(neighbor).isAlive())
+                    .count();
+                next.setCellState(cell, rules.nextState(grid.getCellState(cell), count));
+            }
+        }
+        return next;
+    }
+
+    @Test
+    @DisplayName("Built-in neighborhoods have the expected shapes")
+    void builtIns() {
+        assertAll(
+            () -> assertEquals(8, Neighborhood.moore().size()),
+            () -> assertEquals(4, Neighborhood.vonNeumann().size()),
+            () -> assertEquals(6, Neighborhood.hexagonal().size()),
+            () -> assertEquals(1, Neighborhood.hexagonal().radius()),
+            // Golly's layout: NW and SE are neighbors, NE and SW are not
+            () -> assertEquals(List.of(Cell.of(-1, -1), Cell.of(-1, 0), Cell.of(0, -1), Cell.of(0, 1),
+                Cell.of(1, 0), Cell.of(1, 1)), Neighborhood.hexagonal().offsets()),
+            () -> assertEquals(Neighborhood.moore(), GameRules.conway().neighborhood()),
+            () -> assertEquals(List.of(Cell.of(-1, 0), Cell.of(0, -1), Cell.of(0, 1), Cell.of(1, 0)),
+                Neighborhood.vonNeumann().offsets())
+        );
+    }
+
+    @Test
+    @DisplayName("Custom neighborhoods reject empty sets and the center cell")
+    void customValidation() {
+        var knight = Neighborhood.custom("knight", List.of(Cell.of(-2, 1), Cell.of(1, 2), Cell.of(1, 2)));
+
+        assertAll(
+            () -> assertEquals(2, knight.size()),
+            () -> assertEquals(2, knight.radius()),
+            () -> assertThrows(IllegalArgumentException.class, () -> Neighborhood.custom("none", List.of())),
+            () -> assertThrows(IllegalArgumentException.class,
+                () -> Neighborhood.custom("self", List.of(Cell.of(0, 0), Cell.of(0, 1))))
+        );
+    }
+
+    @Test
+    @DisplayName("Rule strings select a neighborhood by suffix")
+    void parse() {
+        assertAll(
+            () -> assertEquals(Neighborhood.hexagonal(), GameRules.parse("B2/S34H").neighborhood()),
+            () -> assertEquals(Neighborhood.vonNeumann(), GameRules.parse("B1/S1V").neighborhood()),
+            () -> assertEquals(Neighborhood.moore(), GameRules.parse("B3/S23").neighborhood()),
+            () -> assertEquals(Neighborhood.vonNeumann(), Neighborhood.parse("von-neumann")),
+            () -> assertThrows(IllegalArgumentException.class, () -> Neighborhood.parse("triangular"))
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "B2/S34H, toroidal",
+        "B2/S34H, fixed",
+        "B1/S1V, toroidal",
+        "B13/S024V, fixed"
+    })
+    @DisplayName("evolveWith and the byte engine count through the rule's neighborhood")
+    void matchesBruteForce(String rule, String boundary) throws Exception {
+        var rules = GameRules.parse(rule);
+        var grid = new Grid(23, 37, BoundaryCondition.parse(boundary));
+        grid.randomFill(0.35, 5);
+
+        try (var game = new GameOfLife(grid, rules, new ByteGridEngine())) {
+            for (int g = 1; g <= 10; g++) {
+                var expected = bruteForce(grid, rules);
+                grid = grid.evolveWith(rules, Runnable::run);
+                game.evolve();
+                assertEquals(expected, grid, "evolveWith, generation " + g);
+                assertEquals(expected, game.getCurrentGrid(), "Byte engine, generation " + g);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Asymmetric neighborhoods grow in the right direction on unbounded boards")
+    void asymmetricInfinite() throws Exception {
+        // Each cell only sees the cell to its left, so B1/S1 copies a seed one step right per generation
+        var rightward = GameRules.parse("B1/S1").withNeighborhood(Neighborhood.custom("left", List.of(Cell.of(0, -1))));
+        var grid = new Grid(10, 10, new BoundaryCondition.Infinite());
+        grid.setCellState(Cell.of(3, 3), CellState.ALIVE);
+
+        var next = grid.evolveWith(rightward, Runnable::run);
+
+        assertEquals(Set.of(Cell.of(3, 4)), next.getLiveCells());
+    }
+
+    @Test
+    @DisplayName("Bit-sliced engines fall back for other neighborhoods")
+    void engineFallback() throws Exception {
+        var rules = GameRules.parse("B2/S34H");
+        var grid = new Grid(40, 70, new BoundaryCondition.Toroidal());
+        grid.randomFill(0.3, 9);
+
+        for (EvolutionEngine engine : List.of(new HibernatingEngine(), new WavefrontEngine())) {
+            try (var reference = new GameOfLife(grid, rules);
+                 var candidate = new GameOfLife(grid, rules, engine)) {
+                reference.evolve(8);
+                candidate.evolve(8);
+                assertEquals(reference.getCurrentGrid(), candidate.getCurrentGrid(), engine.getClass().getSimpleName());
+            }
+        }
+    }
+}
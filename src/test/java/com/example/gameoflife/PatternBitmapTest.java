@@ -0,0 +1,144 @@
+package com.example.gameoflife;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PatternBitmapTest {
+
+    @Test
+    @DisplayName("Parsed bitmap matches the text template")
+    void parseTemplate() {
+        var bitmap = PatternBitmap.parse("""
+            .O.
+            ..O
+            OOO
+            """);
+
+        assertEquals(3, bitmap.getHeight());
+        assertEquals(3, bitmap.getWidth());
+        assertEquals(5, bitmap.population());
+        assertTrue(bitmap.get(0, 1));
+        assertFalse(bitmap.get(0, 0));
+        assertEquals(Pattern.GLIDER.bitmap(), bitmap);
+    }
+
+    @Test
+    @DisplayName("RLE runs decode to the same bitmap as the template")
+    void parseRle() {
+        var glider = PatternBitmap.parseRle("""
+            #N Glider
+            #C comment lines are skipped
+            x = 3, y = 3, rule = B3/S23
+            bo$2b
+            o$3o!
+            """);
+        var unsized = PatternBitmap.parseRle("2o$2o!");
+
+        assertAll(
+            () -> assertEquals(Pattern.GLIDER.bitmap(), glider),
+            () -> assertEquals(Pattern.BLOCK.bitmap(), unsized),
+            () -> assertThrows(IllegalArgumentException.class, () -> PatternBitmap.parseRle("x = 2, y = 1\n3o!")),
+            () -> assertThrows(IllegalArgumentException.class, () -> PatternBitmap.parseRle("2o%o!"))
+        );
+    }
+
+    @ParameterizedTest
+    @EnumSource(Transform.class)
+    @DisplayName("Every transform preserves population and swaps axes when expected")
+    void transformsPreservePopulation(Transform transform) {
+        var gun = Pattern.GOSPER_GLIDER_GUN.bitmap();
+        var transformed = gun.transform(transform);
+
+        assertEquals(gun.population(), transformed.population());
+        assertEquals(transform.swapsAxes() ? gun.getWidth() : gun.getHeight(), transformed.getHeight());
+        assertEquals(transformed, Pattern.GOSPER_GLIDER_GUN.bitmap(transform));
+    }
+
+    @Test
+    @DisplayName("Four quarter turns return the original bitmap")
+    void rotationsCompose() {
+        var gun = Pattern.GOSPER_GLIDER_GUN.bitmap();
+        var rotated = gun;
+        for (int i = 0; i < 4; i++) {
+            rotated = rotated.transform(Transform.ROTATE_90);
+        }
+
+        assertEquals(gun, rotated);
+        assertEquals(gun.transform(Transform.ROTATE_180),
+            gun.transform(Transform.ROTATE_90).transform(Transform.ROTATE_90));
+        assertEquals(gun.transform(Transform.ANTI_TRANSPOSE),
+            gun.transform(Transform.TRANSPOSE).transform(Transform.ROTATE_180));
+    }
+
+    @Test
+    @DisplayName("Rotating 90 degrees moves the top-left cell to the top-right")
+    void rotateCorner() {
+        var bitmap = PatternBitmap.parse("""
+            O..
+            ...
+            """);
+        var rotated = bitmap.transform(Transform.ROTATE_90);
+
+        assertEquals(3, rotated.getHeight());
+        assertEquals(2, rotated.getWidth());
+        assertTrue(rotated.get(0, 1));
+        assertEquals(1, rotated.population());
+    }
+
+    @Test
+    @DisplayName("Stamp modes combine with existing cells")
+    void stampModes() {
+        var block = Pattern.BLOCK.bitmap();
+
+        var orGrid = new Grid(4, 4);
+        orGrid.setCellState(Cell.of(0, 0), CellState.ALIVE);
+        block.stampInto(orGrid, 1, 1, StampMode.OR);
+        assertEquals(5, orGrid.getLiveCells().size());
+
+        var xorGrid = new Grid(4, 4);
+        xorGrid.setCellState(Cell.of(1, 1), CellState.ALIVE);
+        block.stampInto(xorGrid, 1, 1, StampMode.XOR);
+        assertEquals(3, xorGrid.getLiveCells().size());
+        assertFalse(xorGrid.getCellState(Cell.of(1, 1)).isAlive());
+
+        var replaceGrid = new Grid(4, 4);
+        replaceGrid.setCellState(Cell.of(0, 0), CellState.ALIVE);
+        replaceGrid.setCellState(Cell.of(1, 1), CellState.ALIVE);
+        Pattern.BLINKER.stamp(replaceGrid, 0, 0, Transform.IDENTITY, StampMode.REPLACE);
+        assertEquals(3, replaceGrid.getLiveCells().size());
+        assertFalse(replaceGrid.getCellState(Cell.of(0, 0)).isAlive());
+    }
+
+    @Test
+    @DisplayName("Stamping respects boundary conditions")
+    void stampAcrossBoundary() {
+        var fixed = new Grid(5, 5);
+        Pattern.BLOCK.stamp(fixed, 4, 4, Transform.IDENTITY, StampMode.OR);
+        assertEquals(1, fixed.getLiveCells().size());
+
+        var toroidal = new Grid(5, 5, new BoundaryCondition.Toroidal());
+        Pattern.BLOCK.stamp(toroidal, 4, 4, Transform.IDENTITY, StampMode.OR);
+        assertEquals(4, toroidal.getLiveCells().size());
+        assertTrue(toroidal.getCellState(Cell.of(0, 0)).isAlive());
+    }
+
+    @Test
+    @DisplayName("Stamped gliders evolve like parsed ones")
+    void stampedGliderFleet() throws Exception {
+        var grid = new Grid(40, 40, new BoundaryCondition.Toroidal());
+        for (int row = 0; row < 40; row += 10) {
+            for (int col = 0; col < 40; col += 10) {
+                Pattern.GLIDER.stamp(grid, row, col, Transform.values()[(row + col) / 10 % 8], StampMode.OR);
+            }
+        }
+        assertEquals(16 * 5, grid.getLiveCells().size());
+
+        try (var game = new GameOfLife(grid)) {
+            game.evolve(4);
+            assertEquals(16 * 5, game.getCurrentGrid().getLiveCells().size());
+        }
+    }
+}
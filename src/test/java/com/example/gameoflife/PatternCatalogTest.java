@@ -0,0 +1,143 @@
+package com.example.gameoflife;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PatternCatalogTest {
+
+    @TempDir
+    Path directory;
+
+    private Path patterns;
+
+    @BeforeEach
+    void writePatterns() throws IOException {
+        patterns = Files.createDirectories(directory.resolve("patterns"));
+        Files.createDirectories(patterns.resolve("ships"));
+        Files.writeString(patterns.resolve("blinker.cells"), """
+            !Name: Blinker
+            OOO
+            """);
+        Files.writeString(patterns.resolve("block.txt"), """
+            OO
+            OO
+            """);
+        Files.writeString(patterns.resolve("ships/glider.rle"), """
+            #N Glider
+            x = 3, y = 3, rule = B3/S23
+            bob$2bo$3o!
+            """);
+        // Same shape as the glider, rotated
+        Files.writeString(patterns.resolve("ships/glider-ne.cells"), """
+            .O.
+            O..
+            OOO
+            """);
+        Files.writeString(patterns.resolve("readme.md"), "not a pattern");
+    }
+
+    @Test
+    @DisplayName("Build indexes size, population, period and canonical hash")
+    void buildsIndex() throws IOException {
+        var catalog = PatternCatalog.build(patterns, directory.resolve("catalog.idx"));
+        var glider = catalog.byName("ships/glider").orElseThrow();
+
+        assertAll(
+            () -> assertEquals(4, catalog.size()),
+            () -> assertEquals(3, glider.height()),
+            () -> assertEquals(3, glider.width()),
+            () -> assertEquals(5, glider.population()),
+            () -> assertEquals(4, glider.period()),
+            () -> assertEquals(2, catalog.byName("blinker").orElseThrow().period()),
+            () -> assertEquals(1, catalog.byName("block").orElseThrow().period()),
+            () -> assertEquals(Pattern.GLIDER.bitmap().canonicalHash(), glider.canonicalHash()),
+            () -> assertTrue(catalog.byName("readme").isEmpty()),
+            () -> assertTrue(catalog.byName("glider").isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("Lookups by hash and by shape find every orientation")
+    void hashLookups() throws IOException {
+        var catalog = PatternCatalog.build(patterns, directory.resolve("catalog.idx"));
+        var hash = Pattern.GLIDER.bitmap().canonicalHash();
+
+        assertAll(
+            () -> assertEquals(List.of("ships/glider", "ships/glider-ne"),
+                catalog.byHash(hash).stream().map(PatternCatalog.Entry::name).sorted().toList()),
+            () -> assertEquals(2, catalog.matching(Pattern.GLIDER.bitmap().transform(Transform.ROTATE_90)).size()),
+            () -> assertEquals(List.of("block"),
+                catalog.matching(Pattern.BLOCK.bitmap()).stream().map(PatternCatalog.Entry::name).toList()),
+            () -> assertTrue(catalog.byHash(hash + 1).isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("Bitmaps load lazily from a reopened index and are cached")
+    void loadsLazily() throws IOException {
+        var index = directory.resolve("catalog.idx");
+        PatternCatalog.build(patterns, index);
+        var catalog = PatternCatalog.open(index, 2);
+
+        var glider = catalog.load("ships/glider").orElseThrow();
+
+        assertAll(
+            () -> assertEquals(Pattern.GLIDER.bitmap().canonical(), glider.canonical()),
+            () -> assertSame(glider, catalog.load("ships/glider").orElseThrow()),
+            () -> assertTrue(catalog.load("missing").isEmpty()),
+            () -> assertEquals(4, catalog.entries().count())
+        );
+    }
+
+    @Test
+    @DisplayName("Zip archives index like directories")
+    void indexesArchives() throws IOException {
+        var archive = directory.resolve("patterns.zip");
+        try (var zip = FileSystems.newFileSystem(URI.create("jar:" + archive.toUri()), Map.of("create", "true"))) {
+            Files.writeString(zip.getPath("/toad.rle"), "x = 4, y = 2\nb3o$3o!\n");
+        }
+
+        var catalog = PatternCatalog.build(archive, directory.resolve("archive.idx"));
+
+        assertEquals(2, catalog.byName("toad").orElseThrow().period());
+    }
+
+    @Test
+    @DisplayName("Files that are not patterns are skipped and reported")
+    void skipsUnparseableFiles() throws IOException {
+        Files.writeString(patterns.resolve("broken.rle"), "x = 1, y = 1\n3o!\n");
+        Files.writeString(patterns.resolve("readme.txt"), "Patterns collected from the LifeWiki.\n");
+        // Sorts before ships/glider.rle but must not claim its name
+        Files.writeString(patterns.resolve("ships/glider.cells"), "Not a glider");
+
+        var catalog = PatternCatalog.build(patterns, directory.resolve("catalog.idx"));
+
+        assertAll(
+            () -> assertEquals(4, catalog.size()),
+            () -> assertEquals(4, catalog.byName("ships/glider").orElseThrow().period()),
+            () -> assertEquals(3, catalog.skipped().size()),
+            () -> assertTrue(catalog.skipped().get(1).startsWith("readme.txt: ")),
+            () -> assertEquals(List.of(), PatternCatalog.open(directory.resolve("catalog.idx")).skipped())
+        );
+    }
+
+    @Test
+    @DisplayName("Foreign indexes are rejected")
+    void rejectsBadInput() throws IOException {
+        var notAnIndex = Files.writeString(directory.resolve("bogus.idx"), "definitely not an index, just text");
+
+        assertThrows(IOException.class, () -> PatternCatalog.open(notAnIndex));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.gameoflife;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleBatchTest {
+
+    private static long[] independentPopulations(Grid seed, String rule, int generations) throws Exception {
+        var populations = new long[generations + 1];
+        try (var game = new GameOfLife(seed, GameRules.parse(rule))) {
+            populations[0] = seed.population();
+            for (int generation = 1; generation <= generations; generation++) {
+                game.evolve();
+                populations[generation] = game.getSnapshot().population();
+            }
+        }
+        return populations;
+    }
+
+    private static RuleBatch.Report runBatch(Grid seed, List<String> rules, int generations) throws Exception {
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            return RuleBatch.run(seed, rules, generations, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Every rule's trajectory matches an independent run, at a fraction of the boards")
+    void matchesIndependentRuns() throws Exception {
+        var seed = new Grid(48, 48, new BoundaryCondition.Toroidal());
+        seed.randomFill(0.3, 21);
+        var rules = List.of("conway", "B3/S23", "B3/S236", "B3/S238", "B38/S23", "highlife", "B36/S23",
+            "B3/S12345", "B2/S", "B368/S245", "bosco");
+
+        var report = runBatch(seed, rules, 30);
+
+        for (var rule : rules) {
+            assertArrayEquals(independentPopulations(seed, rule, 30), report.run(rule).orElseThrow().populations(), rule);
+        }
+        assertAll(
+            // Aliases compute the same board and never part ways
+            () -> assertEquals(-1, report.run("conway").orElseThrow().divergedAt()),
+            () -> assertEquals(-1, report.run("B3/S23").orElseThrow().divergedAt()),
+            () -> assertEquals(-1, report.run("highlife").orElseThrow().divergedAt()),
+            () -> assertTrue(report.run("B2/S").orElseThrow().divergedAt() > 0),
+            () -> assertEquals(rules.size(), report.runs().size()),
+            () -> assertTrue(report.boardsComputed() < report.independentBoards(),
+                report.boardsComputed() + " boards"));
+    }
+
+    @Test
+    @DisplayName("Rules that only differ on neighbor counts the board never shows stay together")
+    void sharesUntilRulesDisagree() throws Exception {
+        // A blinker never shows a cell with 6 or 8 neighbors, so these rules run as one
+        var seed = new Grid(12, 12, new BoundaryCondition.Fixed());
+        seed.fillRegion(5, 4, 1, 3, CellState.ALIVE);
+        var rules = List.of("B3/S23", "B36/S23", "B38/S23", "B3/S236", "B3/S238", "B368/S2368");
+
+        var report = runBatch(seed, rules, 10);
+
+        assertEquals(10, report.boardsComputed());
+        report.runs().forEach(run -> assertEquals(-1, run.divergedAt(), run.rule()));
+        assertEquals(3, report.run("B368/S2368").orElseThrow().finalPopulation());
+    }
+
+    @Test
+    @DisplayName("Unbounded boards share boards through the generic engine")
+    void unboundedBoards() throws Exception {
+        var seed = Pattern.GLIDER.toGrid(new BoundaryCondition.Infinite());
+        var rules = List.of("B3/S23", "B36/S23", "B3/S236", "B38/S23", "B3/S238", "B34/S34");
+
+        var report = runBatch(seed, rules, 12);
+
+        for (var rule : rules) {
+            assertArrayEquals(independentPopulations(seed, rule, 12), report.run(rule).orElseThrow().populations(), rule);
+        }
+        assertTrue(report.boardsComputed() < report.independentBoards());
+    }
+
+    @Test
+    @DisplayName("Empty rule sets and negative generation counts are rejected")
+    void rejectsBadInput() {
+        var seed = new Grid(4, 4);
+        assertThrows(IllegalArgumentException.class, () -> RuleBatch.run(seed, Map.of(), 3, Runnable::run));
+        assertThrows(IllegalArgumentException.class, () -> RuleBatch.run(seed, List.of("conway"), -1, Runnable::run));
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.gameoflife;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RunRecorderTest {
+
+    @TempDir
+    Path directory;
+
+    // Runs the game with a recorder attached and returns every board from the start
+    private static List<Grid> record(GameOfLife game, RunRecorder recorder, int generations) throws Exception {
+        var boards = new ArrayList<Grid>();
+        boards.add(game.getCurrentGrid());
+        game.addListener((delta, grid) -> boards.add(grid.copy()));
+        game.addListener(recorder);
+        game.evolve(generations);
+        return boards;
+    }
+
+    @Test
+    @DisplayName("A closed log replays any generation and keeps the header")
+    void replaysClosedLog() throws Exception {
+        var path = directory.resolve("run.golr");
+        var initial = new Grid(64, 80, new BoundaryCondition.Toroidal());
+        initial.randomFill(0.3, 17);
+        List<Grid> boards;
+        try (var game = new GameOfLife(initial, GameRules.parse("B36/S23"))) {
+            game.evolve(5);
+            try (var recorder = new RunRecorder(path, game.getSnapshot(), "B36/S23", 17, 50)) {
+                boards = record(game, recorder, 300);
+                assertEquals(305, recorder.getLastGeneration());
+            }
+        }
+
+        try (var log = RunLog.open(path)) {
+            assertAll(
+                () -> assertEquals(64, log.getRows()),
+                () -> assertEquals(80, log.getCols()),
+                () -> assertEquals(new BoundaryCondition.Toroidal(), log.getBoundary()),
+                () -> assertEquals("B36/S23", log.getRule()),
+                () -> assertEquals(17, log.getSeed()),
+                () -> assertEquals(50, log.getKeyframeInterval()),
+                () -> assertEquals(5, log.getFirstGeneration()),
+                () -> assertEquals(305, log.getLastGeneration()));
+            for (int generation : new int[] {5, 6, 54, 55, 56, 199, 305}) {
+                assertEquals(boards.get(generation - 5), log.gridAt(generation), "generation " + generation);
+            }
+            assertThrows(IllegalArgumentException.class, () -> log.gridAt(4));
+            assertThrows(IllegalArgumentException.class, () -> log.gridAt(306));
+        }
+    }
+
+    @Test
+    @DisplayName("A log that was never closed is recovered by scanning, ignoring a torn last frame")
+    void recoversUnclosedLog() throws Exception {
+        var path = directory.resolve("live.golr");
+        var copy = directory.resolve("crashed.golr");
+        var initial = new Grid(40, 40, new BoundaryCondition.Fixed());
+        initial.randomFill(0.35, 3);
+        try (var game = new GameOfLife(initial);
+             var recorder = new RunRecorder(path, game.getSnapshot(), "conway", 3, 16)) {
+            var boards = record(game, recorder, 40);
+            recorder.flush();
+            var bytes = Files.readAllBytes(path);
+            var torn = new byte[bytes.length + 3];
+            System.arraycopy(bytes, 0, torn, 0, bytes.length);
+            torn[bytes.length] = RunRecorder.DELTA;
+            Files.write(copy, torn);
+
+            try (var log = RunLog.open(copy)) {
+                assertEquals(40, log.getLastGeneration());
+                assertEquals(boards.get(40), log.gridAt(40));
+                assertEquals(boards.get(17), log.gridAt(17));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Frames larger than the write buffer are written whole")
+    void writesOversizedFrames() throws Exception {
+        var path = directory.resolve("big.golr");
+        var initial = new Grid(1200, 1200, new BoundaryCondition.Toroidal());
+        initial.randomFill(0.5, 1);
+        try (var game = new GameOfLife(initial)) {
+            List<Grid> boards;
+            try (var recorder = new RunRecorder(path, game.getSnapshot(), "conway", 1)) {
+                boards = record(game, recorder, 2);
+            }
+            try (var log = RunLog.open(path)) {
+                assertEquals(boards.get(2), log.gridAt(2));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Listener errors never reach the evolving game, which records each generation once")
+    void failuresStayOffTheEvolvingThread() throws Exception {
+        var path = directory.resolve("rewound.golr");
+        try (var game = new GameOfLife(Pattern.GLIDER.toGrid(new BoundaryCondition.Toroidal()))) {
+            var history = game.enableHistory(4, Long.MAX_VALUE);
+            var recorder = new RunRecorder(path, game.getSnapshot(), "conway", 0);
+            game.addListener(recorder);
+            game.evolve(6);
+            game.rewindTo(2);
+
+            game.evolve(3);
+
+            assertEquals(5, game.getGeneration());
+            assertEquals(5, history.lastGeneration());
+            assertEquals(6, recorder.getLastGeneration());
+            assertThrows(java.io.IOException.class, recorder::close);
+            game.evolve();
+            assertEquals(6, game.getGeneration());
+        }
+    }
+
+    @Test
+    @DisplayName("Generations must arrive in order and the file must be a run log")
+    void rejectsBadInput() throws Exception {
+        var path = directory.resolve("gap.golr");
+        var grid = new Grid(8, 8);
+        var recorder = new RunRecorder(path, new GenerationSnapshot(0, grid), "conway", 0);
+        recorder.onGeneration(new GenerationDelta(1, new long[0], new long[0]), grid);
+        // A gap stops recording without throwing into the caller; it surfaces on flush and close
+        recorder.onGeneration(new GenerationDelta(3, new long[0], new long[0]), grid);
+        recorder.onGeneration(new GenerationDelta(2, new long[0], new long[0]), grid);
+        assertEquals(1, recorder.getLastGeneration());
+        assertThrows(java.io.IOException.class, recorder::flush);
+        var failure = assertThrows(java.io.IOException.class, recorder::close);
+        assertTrue(failure.getMessage().contains("Expected generation 2 but got 3"));
+        recorder.onGeneration(new GenerationDelta(4, new long[0], new long[0]), grid);
+        try (var log = RunLog.open(path)) {
+            assertEquals(1, log.getLastGeneration(), "Frames before the gap are kept");
+        }
+        var junk = directory.resolve("junk.golr");
+        Files.write(junk, new byte[] {1, 2, 3, 4, 5, 6});
+        assertThrows(java.io.IOException.class, () -> RunLog.open(junk));
+        assertThrows(IllegalArgumentException.class,
+            () -> new RunRecorder(directory.resolve("x"), new GenerationSnapshot(0, grid), "B9/S", 0));
+    }
+}
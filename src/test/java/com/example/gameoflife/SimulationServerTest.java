@@ -0,0 +1,148 @@
+package com.example.gameoflife;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import java.io.DataInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationServerTest {
+
+    private SimulationServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setup() throws Exception {
+        server = SimulationServer.start(0, 200, 50);
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void cleanup() {
+        server.close();
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        return send(server, method, path, body);
+    }
+
+    private HttpResponse<String> send(SimulationServer target, String method, String path, String body) throws Exception {
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:" + target.getPort() + path))
+            .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    @DisplayName("Runs can be created, stepped and deleted")
+    void createStepDelete() throws Exception {
+        var created = send("POST", "/runs?rows=20&cols=20&boundary=toroidal&pattern=glider", null);
+        assertEquals(201, created.statusCode());
+        assertTrue(created.body().contains("\"generation\":0"));
+        assertTrue(created.body().contains("\"population\":5"));
+
+        var stepped = send("POST", "/runs/1/step?count=4", null);
+        assertEquals(200, stepped.statusCode());
+        assertTrue(stepped.body().contains("\"generation\":4"));
+
+        assertEquals(204, send("DELETE", "/runs/1", null).statusCode());
+        assertEquals(404, send("GET", "/runs/1", null).statusCode());
+        assertEquals(0, server.getSessionCount());
+    }
+
+    @Test
+    @DisplayName("Bad requests map to client errors")
+    void clientErrors() throws Exception {
+        assertEquals(400, send("POST", "/runs?boundary=spherical", null).statusCode());
+        assertEquals(400, send("POST", "/runs?rule=B9/S0", null).statusCode());
+        assertEquals(404, send("POST", "/runs/42/step", null).statusCode());
+        assertEquals(405, send("GET", "/runs", null).statusCode());
+
+        send("POST", "/runs?rows=8&cols=8", null);
+        assertEquals(405, send("GET", "/runs/1/step", null).statusCode());
+        assertEquals(405, send("POST", "/runs/1/frames", null).statusCode());
+        assertEquals(405, send("PUT", "/runs/1", null).statusCode());
+        assertEquals(404, send("GET", "/runs/1/jump", null).statusCode());
+    }
+
+    @Test
+    @DisplayName("Boards over the size limit are rejected before allocation")
+    void boardSizeLimited() throws Exception {
+        var rejected = send("POST", "/runs?rows=100000&cols=100000", null);
+        assertEquals(400, rejected.statusCode());
+        assertTrue(rejected.body().contains("Board too large"));
+        assertEquals(0, server.getSessionCount());
+
+        try (var small = SimulationServer.start(0, 200, 50, 100)) {
+            assertEquals(400, send(small, "POST", "/runs?rows=10&cols=11", null).statusCode());
+
+            // One long first line sets the width for every short line after it
+            var wide = ".".repeat(30) + "\n.".repeat(30);
+            var tooWide = send(small, "POST", "/runs", wide);
+            assertEquals(400, tooWide.statusCode());
+            assertTrue(tooWide.body().contains("Board too large"));
+
+            var huge = send(small, "POST", "/runs", ".".repeat(10_000));
+            assertEquals(400, huge.statusCode());
+            assertTrue(huge.body().contains("Request body exceeds"));
+
+            assertEquals(201, send(small, "POST", "/runs", ".O.\n.O.\n.O.").statusCode());
+        }
+        assertThrows(IllegalArgumentException.class, () -> SimulationServer.start(0, 200, 50, 0));
+    }
+
+    @Test
+    @DisplayName("Step requests beyond the session budget are rate limited")
+    void rateLimited() throws Exception {
+        send("POST", "/runs?rows=8&cols=8", null);
+
+        assertEquals(200, send("POST", "/runs/1/step?count=50", null).statusCode());
+        var limited = send("POST", "/runs/1/step?count=50", null);
+        assertEquals(429, limited.statusCode());
+        assertTrue(limited.headers().firstValue("Retry-After").isPresent());
+    }
+
+    @Test
+    @DisplayName("Frame stream replays the run as binary deltas")
+    void streamFrames() throws Exception {
+        send("POST", "/runs?rows=30&cols=30&boundary=toroidal&density=0.4&seed=3", "");
+
+        var request = HttpRequest.newBuilder(
+            URI.create("http://localhost:" + server.getPort() + "/runs/1/frames")).GET().build();
+        var response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        assertEquals(200, response.statusCode());
+
+        try (var in = new DataInputStream(response.body())) {
+            var replay = new Grid(30, 30, new BoundaryCondition.Toroidal());
+            var first = readFrame(in);
+            assertEquals(0, first.generation());
+            first.applyTo(replay);
+
+            assertEquals(200, send("POST", "/runs/1/run?rate=100", null).statusCode());
+            for (int g = 1; g <= 10; g++) {
+                var frame = readFrame(in);
+                assertEquals(g, frame.generation());
+                frame.applyTo(replay);
+            }
+            send("POST", "/runs/1/pause", null);
+
+            var expected = new Grid(30, 30, new BoundaryCondition.Toroidal());
+            expected.randomFill(0.4, 3);
+            try (var game = new GameOfLife(expected)) {
+                game.evolve(10);
+                assertEquals(game.getCurrentGrid(), replay);
+            }
+        }
+    }
+
+    private static GenerationDelta readFrame(DataInputStream in) throws Exception {
+        var frame = new byte[in.readInt()];
+        in.readFully(frame);
+        return DeltaCodec.decode(frame);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.gameoflife;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static com.example.gameoflife.Transform.*;
+
+class SymmetricGridTest {
+
+    // Random soup made invariant under the group by OR-ing every image of every live cell
+    private static Grid symmetricSoup(int rows, int cols, BoundaryCondition boundary, Set<Transform> group, long seed) {
+        var soup = new Grid(rows, cols, boundary);
+        soup.randomFill(0.2, seed);
+        var grid = new Grid(rows, cols, boundary);
+        for (var cell : soup.getLiveCells()) {
+            for (var transform : group) {
+                grid.setAlive(transform.row(cell.row(), cell.col(), rows, cols),
+                    transform.col(cell.row(), cell.col(), rows, cols), true);
+            }
+        }
+        return grid;
+    }
+
+    private static Set<Transform> group(String names) {
+        var group = EnumSet.of(IDENTITY);
+        Arrays.stream(names.split(" ")).map(Transform::valueOf).forEach(group::add);
+        return group;
+    }
+
+    @Test
+    @DisplayName("Detection finds the full symmetry group of a board")
+    void detectsSymmetry() {
+        var pulsar = new Grid(17, 17, new BoundaryCondition.Fixed());
+        Pattern.PULSAR.bitmap().stampInto(pulsar, 2, 2, StampMode.OR);
+        var blinker = new Grid(5, 5);
+        blinker.fillRegion(2, 1, 1, 3, CellState.ALIVE);
+
+        assertAll(
+            () -> assertEquals(EnumSet.allOf(Transform.class), SymmetricGrid.detect(pulsar)),
+            () -> assertEquals(EnumSet.of(IDENTITY, ROTATE_180, FLIP_HORIZONTAL, FLIP_VERTICAL), SymmetricGrid.detect(blinker)),
+            () -> assertEquals(EnumSet.of(IDENTITY), SymmetricGrid.detect(Pattern.GLIDER.toGrid(new BoundaryCondition.Fixed())))
+        );
+    }
+
+    @Test
+    @DisplayName("Declared groups must be closed and hold on the board")
+    void validatesDeclaredGroup() {
+        var empty = new Grid(6, 6);
+        var glider = Pattern.GLIDER.toGrid(new BoundaryCondition.Fixed());
+
+        assertAll(
+            () -> assertThrows(IllegalArgumentException.class, () -> SymmetricGrid.of(empty, EnumSet.of(IDENTITY, ROTATE_90))),
+            () -> assertThrows(IllegalArgumentException.class, () -> SymmetricGrid.of(empty, EnumSet.of(FLIP_HORIZONTAL))),
+            () -> assertThrows(IllegalArgumentException.class, () -> SymmetricGrid.of(new Grid(4, 6), EnumSet.of(IDENTITY, TRANSPOSE))),
+            () -> assertThrows(IllegalArgumentException.class, () -> SymmetricGrid.of(glider, EnumSet.of(IDENTITY, FLIP_VERTICAL))),
+            () -> assertDoesNotThrow(() -> SymmetricGrid.of(empty, EnumSet.allOf(Transform.class)))
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "fixed, 24, 24, ROTATE_90 ROTATE_180 ROTATE_270 FLIP_HORIZONTAL FLIP_VERTICAL TRANSPOSE ANTI_TRANSPOSE",
+        "toroidal, 25, 25, ROTATE_90 ROTATE_180 ROTATE_270 FLIP_HORIZONTAL FLIP_VERTICAL TRANSPOSE ANTI_TRANSPOSE",
+        "toroidal, 24, 24, ROTATE_90 ROTATE_180 ROTATE_270",
+        "fixed, 21, 33, FLIP_HORIZONTAL",
+        "toroidal, 20, 31, ROTATE_180",
+        "fixed, 27, 30, ROTATE_180 FLIP_HORIZONTAL FLIP_VERTICAL",
+        "toroidal, 23, 23, TRANSPOSE",
+        "fixed, 22, 22, ROTATE_180 TRANSPOSE ANTI_TRANSPOSE",
+        "infinite, 15, 15, ROTATE_90 ROTATE_180 ROTATE_270 FLIP_HORIZONTAL FLIP_VERTICAL TRANSPOSE ANTI_TRANSPOSE"
+    })
+    @DisplayName("Evolving representatives matches evolving the full board")
+    void matchesFullEvolution(String boundary, int rows, int cols, String transforms) throws Exception {
+        var group = group(transforms);
+        var full = symmetricSoup(rows, cols, BoundaryCondition.parse(boundary), group, rows * 7L + cols);
+        var symmetric = SymmetricGrid.of(full, group);
+
+        for (int g = 1; g <= 20; g++) {
+            full = full.evolveWith(GameRules.conway(), Runnable::run);
+            symmetric = symmetric.evolveWith(GameRules.conway(), Runnable::run);
+            assertEquals(full, symmetric.toGrid(), "Generation " + g);
+            assertEquals(full.population(), symmetric.population(), "Population at generation " + g);
+        }
+        assertEquals(group, symmetric.symmetry());
+    }
+
+    @Test
+    @DisplayName("Only one cell per orbit is stored")
+    void storesFundamentalDomain() throws Exception {
+        var pulsar = new Grid(17, 17, new BoundaryCondition.Fixed());
+        Pattern.PULSAR.bitmap().stampInto(pulsar, 2, 2, StampMode.OR);
+        var symmetric = SymmetricGrid.of(pulsar).evolveWith(GameRules.conway(), Runnable::run, 3);
+
+        assertAll(
+            () -> assertEquals(pulsar, symmetric.toGrid()),
+            () -> assertEquals(48, symmetric.population()),
+            () -> assertEquals(6, symmetric.domainPopulation()),
+            () -> assertEquals(CellState.ALIVE, symmetric.getCellState(Cell.of(2, 4))),
+            () -> assertEquals(CellState.ALIVE, symmetric.getCellState(Cell.of(14, 12)))
+        );
+    }
+
+    @Test
+    @DisplayName("Rules that break the symmetry step the full board and keep what survives")
+    void brokenSymmetryFallsBack() throws Exception {
+        var group = EnumSet.of(IDENTITY, FLIP_HORIZONTAL);
+        var full = symmetricSoup(20, 20, new BoundaryCondition.Toroidal(), group, 3);
+        var hex = GameRules.parse("B2/S34H");
+
+        var next = SymmetricGrid.of(full, group).evolveWith(hex, Runnable::run);
+
+        assertEquals(full.evolveWith(hex, Runnable::run), next.toGrid());
+        assertTrue(group.containsAll(next.symmetry()));
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.gameoflife;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TiledCellStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private SpillPolicy tiles(int count) {
+        return new SpillPolicy(count * TiledCellStore.TILE_BYTES, directory);
+    }
+
+    @Test
+    @DisplayName("Cells survive being spilled and paged back in, anywhere on an infinite board")
+    void spillsAndPagesIn() {
+        var grid = new Grid(10, 10, new BoundaryCondition.Infinite(), tiles(4));
+        var random = new Random(3);
+        var expected = new HashSet<Cell>();
+        for (int i = 0; i < 2_000; i++) {
+            var cell = Cell.of(random.nextInt(2_000) - 1_000, random.nextInt(2_000) - 1_000);
+            grid.setCellState(cell, CellState.ALIVE);
+            expected.add(cell);
+        }
+        var spilled = grid.spillStats().orElseThrow();
+
+        assertAll(
+            () -> assertEquals(expected, grid.getLiveCells()),
+            () -> assertEquals(expected.size(), grid.population()),
+            () -> expected.forEach(cell -> assertTrue(grid.getCellState(cell).isAlive(), cell.toString())),
+            () -> assertEquals(expected.stream().filter(cell -> cell.row() >= -300 && cell.row() < 200 &&
+                    cell.col() >= 0 && cell.col() < 500).count(), grid.populationIn(-300, 0, 500, 500)),
+            () -> assertEquals(4, spilled.residentTiles()),
+            () -> assertTrue(spilled.spills() > 0 && spilled.spilledBytes() > 0),
+            () -> assertTrue(grid.spillStats().orElseThrow().misses() > 0));
+        assertEquals(StorageMode.TILED, grid.getStorageMode());
+    }
+
+    @Test
+    @DisplayName("Evolution on a tiny budget matches sparse storage")
+    void evolvesLikeSparse() throws Exception {
+        var sparse = new Grid(64, 64, new BoundaryCondition.Infinite());
+        sparse.randomFill(0.3, 8);
+        var tiled = new Grid(64, 64, new BoundaryCondition.Infinite(), tiles(2));
+        sparse.getLiveCells().forEach(cell -> tiled.setCellState(cell, CellState.ALIVE));
+
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var a = sparse;
+            var b = tiled;
+            for (int i = 0; i < 20; i++) {
+                a = a.evolveWith(GameRules.conway(), executor);
+                b = b.evolveWith(GameRules.conway(), executor);
+            }
+            assertEquals(a.getLiveCells(), b.getLiveCells());
+            assertTrue(b.spillStats().isPresent());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Wrapped edges and non-Moore rules match dense storage tile by tile")
+    void evolvesEveryRuleLikeDense() throws Exception {
+        var rules = List.of(
+            GameRules.parse("B36/S23"),
+            GameRules.parse("B2/S34H"),
+            GameRules.parse("B2/S013V"),
+            new LargerThanLifeRules(2, true, 5, 8, 4, 9),
+            GameRules.conway().withNeighborhood(Neighborhood.custom("knight",
+                List.of(Cell.of(-2, 1), Cell.of(1, 2), Cell.of(2, -1), Cell.of(-1, -2)))));
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            for (var rule : rules) {
+                // 90 columns: the last tile column is partial and wraps onto the first
+                Grid dense = new Grid(70, 90, new BoundaryCondition.Toroidal(), StorageMode.DENSE);
+                dense.randomFill(0.35, 5);
+                Grid tiled = new Grid(70, 90, new BoundaryCondition.Toroidal(), tiles(1));
+                dense.getLiveCells().forEach(cell -> tiled.setCellState(cell, CellState.ALIVE));
+                for (int i = 0; i < 8; i++) {
+                    dense = dense.evolveWith(rule, executor);
+                    tiled = tiled.evolveWith(rule, executor);
+                }
+                assertEquals(dense.getLiveCells(), tiled.getLiveCells(), rule.neighborhood().name());
+                assertEquals(StorageMode.TILED, tiled.getStorageMode());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Bitboard engines keep tiled boards tiled")
+    void enginesKeepTiledStorage() throws Exception {
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            for (var engine : List.of(new HibernatingEngine(), new WavefrontEngine(), new ByteGridEngine())) {
+                Grid dense = new Grid(100, 130, new BoundaryCondition.Toroidal(), StorageMode.DENSE);
+                dense.randomFill(0.3, 9);
+                Grid tiled = new Grid(100, 130, new BoundaryCondition.Toroidal(), tiles(2));
+                dense.getLiveCells().forEach(cell -> tiled.setCellState(cell, CellState.ALIVE));
+                dense = engine.steps(dense, GameRules.conway(), executor, 5, () -> false).getLast();
+                tiled = engine.steps(tiled, GameRules.conway(), executor, 5, () -> false).getLast();
+
+                assertEquals(dense.getLiveCells(), tiled.getLiveCells(), engine.getClass().getSimpleName());
+                assertEquals(StorageMode.TILED, tiled.getStorageMode());
+            }
+            var seed = new Grid(10, 10, new BoundaryCondition.Fixed(), tiles(1));
+            assertThrows(IllegalArgumentException.class,
+                () -> RuleBatch.run(seed, List.of("B3/S23"), 2, executor));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Long runs on a tiny budget share one scratch file and leave nothing behind")
+    void longRunsShareScratchFile() throws Exception {
+        Grid grid = new Grid(300, 300, new BoundaryCondition.Toroidal(), tiles(2));
+        grid.randomFill(0.3, 4);
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 50; i++) {
+                grid = grid.evolveWith(GameRules.conway(), executor);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(grid.spillStats().orElseThrow().spilledTiles() > 0);
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count(), "No spill file is left behind");
+        }
+    }
+
+    @Test
+    @DisplayName("Regions, rows and copies work across spilled tiles")
+    void regionsRowsAndCopies() {
+        var grid = new Grid(300, 300, new BoundaryCondition.Fixed(), tiles(3));
+        grid.fillRegion(10, 20, 250, 200, CellState.ALIVE);
+        grid.clearRegion(100, 100, 10, 10);
+        var copy = grid.copy();
+        grid.clearRegion(0, 0, 300, 300);
+
+        assertAll(
+            () -> assertEquals(0, grid.population()),
+            () -> assertEquals(250L * 200 - 100, copy.population()),
+            () -> assertEquals(200 - 10, copy.populationIn(105, 0, 1, 300)),
+            () -> assertEquals(Long.bitCount(copy.exportRow(50)[0]) + Long.bitCount(copy.exportRow(50)[1]) +
+                Long.bitCount(copy.exportRow(50)[2]) + Long.bitCount(copy.exportRow(50)[3]) +
+                Long.bitCount(copy.exportRow(50)[4]), 200),
+            () -> assertTrue(copy.spillStats().orElseThrow().spilledTiles() > 0),
+            () -> assertTrue(new Grid(5, 5).spillStats().isEmpty()));
+    }
+
+    @Test
+    @DisplayName("A budget smaller than one tile is rejected")
+    void rejectsTinyBudget() {
+        assertThrows(IllegalArgumentException.class, () -> new SpillPolicy(100, directory));
+        assertThrows(NullPointerException.class, () -> new SpillPolicy(1 << 20, null));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.gameoflife;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.example.gameoflife.EngineAssertions.assertSameEvolution;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WavefrontEngineTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3, 16, 100})
+    @DisplayName("Pipelined generations match the standard engine on a torus")
+    void matchesStandardOnTorus(int bandRows) throws Exception {
+        var grid = new Grid(60, 130, new BoundaryCondition.Toroidal());
+        grid.randomFill(0.35, 5);
+
+        assertSameEvolution(grid, GameRules.conway(), new WavefrontEngine(bandRows), 37);
+    }
+
+    @Test
+    @DisplayName("Pipelined generations match the standard engine on a fixed board with HighLife")
+    void matchesStandardOnFixedBoard() throws Exception {
+        var grid = new Grid(90, 70);
+        grid.randomFill(0.4, 8);
+
+        assertSameEvolution(grid, GameRules.highLife(), new WavefrontEngine(8), 50);
+    }
+
+    @Test
+    @DisplayName("Every intermediate generation reaches listeners in order")
+    void listenersSeeEveryGeneration() throws Exception {
+        var grid = Pattern.GLIDER.toGrid(new BoundaryCondition.Toroidal());
+        try (var game = new GameOfLife(grid, GameRules.conway(), new WavefrontEngine(1))) {
+            var generations = new ArrayList<Integer>();
+            game.addListener((delta, _) -> generations.add(delta.generation()));
+
+            game.evolve(20);
+
+            assertEquals(IntStream.rangeClosed(1, 20).boxed().toList(), generations);
+        }
+    }
+
+    @Test
+    @DisplayName("A stop request returns only fully computed generations")
+    void stopReturnsWholeGenerations() throws Exception {
+        var grid = new Grid(64, 64, new BoundaryCondition.Toroidal());
+        grid.randomFill(0.3, 3);
+        var polls = new AtomicInteger();
+
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var grids = new WavefrontEngine(4).steps(grid, GameRules.conway(), executor, 10,
+                () -> polls.incrementAndGet() > 40);
+
+            assertTrue(grids.size() < 10);
+            var expected = grid;
+            for (var next : grids) {
+                expected = expected.evolveWith(GameRules.conway(), executor);
+                assertEquals(expected, next);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Unbounded boards fall back to single steps")
+    void infiniteFallsBack() throws Exception {
+        var grid = Pattern.GLIDER.toGrid(new BoundaryCondition.Infinite());
+
+        assertSameEvolution(grid, GameRules.conway(), new WavefrontEngine(), 8);
+    }
+}